@@ -0,0 +1,93 @@
+package com.banreservas.benchmarks;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Implementación mínima de {@link HttpHeaders} respaldada por un mapa, para
+ * medir la validación de encabezados sin levantar el servidor.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+final class BenchmarkHttpHeaders implements HttpHeaders {
+
+    private final MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+
+    BenchmarkHttpHeaders with(String name, String value) {
+        headers.putSingle(name, value);
+        return this;
+    }
+
+    /**
+     * Encabezados obligatorios completos, iguales a los de las pruebas.
+     */
+    static BenchmarkHttpHeaders mandatory() {
+        return new BenchmarkHttpHeaders()
+                .with("sessionId", "test-session")
+                .with("id_consumidor", "test-consumer")
+                .with("usuario", "test-user")
+                .with("fecha_hora", "2025-01-28T12:00:00")
+                .with("terminal", "test-terminal")
+                .with("operacion", "test-operation");
+    }
+
+    @Override
+    public List<String> getRequestHeader(String name) {
+        return headers.get(name);
+    }
+
+    @Override
+    public String getHeaderString(String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getRequestHeaders() {
+        return headers;
+    }
+
+    @Override
+    public List<MediaType> getAcceptableMediaTypes() {
+        return List.of(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Override
+    public List<Locale> getAcceptableLanguages() {
+        return List.of();
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return MediaType.APPLICATION_JSON_TYPE;
+    }
+
+    @Override
+    public Locale getLanguage() {
+        return null;
+    }
+
+    @Override
+    public Map<String, Cookie> getCookies() {
+        return Map.of();
+    }
+
+    @Override
+    public Date getDate() {
+        return null;
+    }
+
+    @Override
+    public int getLength() {
+        return -1;
+    }
+}
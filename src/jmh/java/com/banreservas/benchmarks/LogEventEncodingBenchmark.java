@@ -0,0 +1,108 @@
+package com.banreservas.benchmarks;
+
+import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banreservas.dtos.audit.AuditEventDto;
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.utils.AccountMasker;
+import com.banreservas.utils.BuildJsonConstructLogAppender;
+import com.banreservas.utils.JsonLogEncoder;
+
+/**
+ * Compara el costo por solicitud del camino de log: el mensaje original con
+ * {@code Log.infov} (formateo con {@link MessageFormat} y cuentas en claro),
+ * la serialización de un evento con {@link BuildJsonConstructLogAppender} y
+ * {@link JsonLogEncoder}. Los benchmarks {@code *Disabled} miden el costo
+ * cuando el nivel no está habilitado.
+ *
+ * Los bytes asignados por solicitud se leen en {@code gc.alloc.rate.norm}.
+ *
+ * Ejecutar con: {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.includes=LogEventEncoding}
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings("deprecation")
+public class LogEventEncodingBenchmark {
+
+    // Se lee en cada invocación para que el JIT no elimine la rama
+    public boolean infoEnabled = false;
+
+    private final RequestDto request = new RequestDto("9600000012", "9600000034");
+
+    private final AuditEventDto event = new AuditEventDto(1760745600000L, "a1b2c3d4", "canal", "usuario",
+            "terminal", "consulta", "2026-10-18T10:00:00", AccountMasker.mask("9600000034"),
+            AccountMasker.mask("9600000012"), 200, "exitoso", Boolean.TRUE, 12.5);
+
+    @Benchmark
+    public String originalInfov() {
+        // Lo que hace Log.infov con el nivel habilitado
+        return MessageFormat.format("Soap Request, cuenta origen: {0}, cuenta destino: {1}",
+                request.originAccount().toString(), request.destinyAccount().toString());
+    }
+
+    @Benchmark
+    public Object[] originalInfovDisabled() {
+        // Con el nivel deshabilitado Log.infov igual recibe el arreglo de argumentos
+        return new Object[] { request.originAccount().toString(), request.destinyAccount().toString() };
+    }
+
+    @Benchmark
+    public String encoderRequestLine() {
+        return JsonLogEncoder.begin("Soap Request")
+                .field("sessionId", "a1b2c3d4")
+                .maskedField("cuentaOrigen", request.originAccount())
+                .maskedField("cuentaDestino", request.destinyAccount())
+                .end();
+    }
+
+    @Benchmark
+    public String encoderRequestLineDisabled() {
+        if (infoEnabled) {
+            return encoderRequestLine();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String objectMapperEvent() {
+        return BuildJsonConstructLogAppender.buildJson(event);
+    }
+
+    @Benchmark
+    public String encoderEvent() {
+        return JsonLogEncoder.begin("auditoria")
+                .field("timestamp", event.timestampMillis())
+                .field("sessionId", event.sessionId())
+                .field("id_consumidor", event.consumer())
+                .field("usuario", event.user())
+                .field("terminal", event.terminal())
+                .field("operacion", event.operation())
+                .field("fecha_hora", event.dateTime())
+                .field("cuentaOrigen", event.originAccount())
+                .field("cuentaDestino", event.destinyAccount())
+                .field("responseCode", event.responseCode())
+                .field("resultado", event.outcome())
+                .field("isValidProduct", event.isValidProduct())
+                .field("duracionMs", event.durationMillis())
+                .end();
+    }
+}
@@ -0,0 +1,191 @@
+package com.banreservas.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.stream.StreamSource;
+
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseDto;
+import com.banreservas.dtos.inbound.ResponseHeaderDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.utils.ValidProductXmlDecoder;
+import com.banreservas.utils.defaults.CodeMessages;
+import com.banreservas.utils.defaults.RequestHeadersValidator;
+import com.brrd.service.services.ServiceResponse;
+import com.brrd.service.services.ValidarRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vertx.core.MultiMap;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+
+/**
+ * Benchmarks de cada etapa del flujo de validación, en el orden en que se
+ * ejecutan por solicitud: encabezados, lectura y validación del cuerpo JSON,
+ * construcción de {@link ValidarRequest}, serialización JAXB de la solicitud
+ * SOAP y lectura de la respuesta, decodificación de {@code XMLReresponse} y
+ * serialización de {@link ResponseDto}.
+ *
+ * Ejecutar con: {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.includes=RequestPipeline}
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestPipelineBenchmark {
+
+    private static final String REQUEST_JSON = "{\"cuentaDestino\":\"0987654321\",\"cuentaOrigen\":\"1234567890\"}";
+
+    private static final String XML_RESPONSE = "<ProductoValidos><ProductoValido><Resultado>TRUE</Resultado>"
+            + "</ProductoValido></ProductoValidos>";
+
+    // Cuerpo rpc/literal de ValidarResponse tal como lo entrega el backend
+    private static final String SERVICE_RESPONSE_XML = "<Response>"
+            + "<errorCode>000</errorCode><errorMessage>Exitoso</errorMessage>"
+            + "<XMLReresponse>&lt;ProductoValidos&gt;&lt;ProductoValido&gt;&lt;Resultado&gt;TRUE"
+            + "&lt;/Resultado&gt;&lt;/ProductoValido&gt;&lt;/ProductoValidos&gt;</XMLReresponse>"
+            + "</Response>";
+
+    private BenchmarkHttpHeaders httpHeaders;
+
+    private MultivaluedMap<String, String> headers;
+
+    private MultiMap vertxHeaders;
+
+    private RequestDto requestDto;
+
+    private ValidarRequest validarRequest;
+
+    private ObjectMapper objectMapper;
+
+    private ValidatorFactory validatorFactory;
+
+    private Validator validator;
+
+    private JAXBContext jaxbContext;
+
+    private ResponseDto responseDto;
+
+    @Setup
+    public void setup() throws Exception {
+        httpHeaders = BenchmarkHttpHeaders.mandatory();
+        headers = httpHeaders.getRequestHeaders();
+        vertxHeaders = MultiMap.caseInsensitiveMultiMap();
+        headers.forEach((name, values) -> vertxHeaders.add(name, values.get(0)));
+        objectMapper = new ObjectMapper();
+        validatorFactory = Validation.byDefaultProvider().configure()
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .buildValidatorFactory();
+        validator = validatorFactory.getValidator();
+        jaxbContext = JAXBContext.newInstance(ValidarRequest.class, ServiceResponse.class);
+        requestDto = objectMapper.readValue(REQUEST_JSON, RequestDto.class);
+        validarRequest = buildValidarRequest();
+        responseDto = new ResponseDto(
+                new ResponseHeaderDto(200, CodeMessages.MESSAGE_SUCCESS),
+                new ResponseValidatesJointAccountsDto(true));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public String validateRequestHeaders() {
+        return RequestHeadersValidator.validateRequestHeaders(httpHeaders);
+    }
+
+    @Benchmark
+    public String validateRequestHeadersInFilter() {
+        return RequestHeadersValidator.validateRequestHeaders(vertxHeaders);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RequestDto>> deserializeAndValidateRequest() throws Exception {
+        RequestDto request = objectMapper.readValue(REQUEST_JSON, RequestDto.class);
+        return validator.validate(request);
+    }
+
+    @Benchmark
+    public ValidarRequest buildValidarRequest() {
+        ValidarRequest request = new ValidarRequest();
+        request.setChannel(headers.getFirst("id_consumidor"));
+        request.setDate(headers.getFirst("fecha_hora"));
+        request.setOperationName(headers.getFirst("operacion"));
+        request.setTerminal(headers.getFirst("terminal"));
+        request.setUser(headers.getFirst("usuario"));
+        request.setCuentaOrigen(requestDto.originAccount());
+        request.setCuentaDestino(requestDto.destinyAccount());
+        return request;
+    }
+
+    @Benchmark
+    public byte[] marshalSoapRequest() throws Exception {
+        // El binding es rpc/literal: la parte ServiceRequest no tiene elemento raíz propio
+        Marshaller marshaller = jaxbContext.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        ByteArrayOutputStream output = new ByteArrayOutputStream(512);
+        marshaller.marshal(new JAXBElement<>(new QName("ServiceRequest"), ValidarRequest.class, validarRequest),
+                output);
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public ServiceResponse unmarshalSoapResponse() throws Exception {
+        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        return unmarshaller.unmarshal(new StreamSource(new StringReader(SERVICE_RESPONSE_XML)), ServiceResponse.class)
+                .getValue();
+    }
+
+    @Benchmark
+    public boolean decodeXmlResponse() throws Exception {
+        return ValidProductXmlDecoder.isValidProduct(XML_RESPONSE);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(responseDto);
+    }
+
+    @Benchmark
+    public void fullPipelineWithoutNetwork(Blackhole blackhole) throws Exception {
+        blackhole.consume(validateRequestHeadersInFilter());
+        blackhole.consume(deserializeAndValidateRequest());
+        blackhole.consume(buildValidarRequest());
+        blackhole.consume(marshalSoapRequest());
+        blackhole.consume(unmarshalSoapResponse());
+        blackhole.consume(decodeXmlResponse());
+        blackhole.consume(serializeResponse());
+    }
+}
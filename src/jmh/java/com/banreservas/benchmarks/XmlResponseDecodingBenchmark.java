@@ -0,0 +1,71 @@
+package com.banreservas.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banreservas.dtos.outbound.ResponseWsDto;
+import com.banreservas.utils.ValidProductXmlDecoder;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+/**
+ * Compara la decodificación original de {@code XMLReresponse} (un
+ * {@link XmlMapper} nuevo por solicitud y enlace completo) contra
+ * {@link ValidProductXmlDecoder}.
+ *
+ * Ejecutar con: {@code ./mvnw -Pbenchmark test-compile exec:exec -Djmh.includes=XmlResponseDecoding}
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlResponseDecodingBenchmark {
+
+    // Cantidad de nodos ProductoValido en el documento
+    @Param({ "1", "20" })
+    public int products;
+
+    private String xmlResponse;
+
+    @Setup
+    public void setup() {
+        StringBuilder xml = new StringBuilder("<ProductoValidos>");
+        for (int i = 0; i < products; i++) {
+            xml.append("<ProductoValido><Resultado>TRUE</Resultado></ProductoValido>");
+        }
+        xmlResponse = xml.append("</ProductoValidos>").toString();
+    }
+
+    @Benchmark
+    public boolean currentPathNewXmlMapper() throws Exception {
+        XmlMapper xmlMapper = new XmlMapper();
+        ResponseWsDto responseWsDto = xmlMapper.readValue(xmlResponse, ResponseWsDto.class);
+        return "TRUE".equals(responseWsDto.getValidProduct().getFirst().getProductIsValid());
+    }
+
+    @Benchmark
+    public boolean sharedMapperFullBinding() throws Exception {
+        return ValidProductXmlDecoder.isValidProductByBinding(xmlResponse);
+    }
+
+    @Benchmark
+    public boolean streamingDecoder() throws Exception {
+        return ValidProductXmlDecoder.isValidProduct(xmlResponse);
+    }
+}
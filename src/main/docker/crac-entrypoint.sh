@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+#
+# Punto de entrada de Dockerfile.jvm-crac.
+#
+# CRAC_CHECKPOINT=true: inicia la aplicación, espera a que esté lista, envía
+# WARMUP_REQUESTS solicitudes de calentamiento y toma el checkpoint en
+# CRAC_DIR (la JVM termina al tomarlo). Antes del checkpoint la aplicación
+# cierra el pool de conexiones con el backend (BackendCheckpointResource). Si
+# jcmd informa un error, o la JVM no termina en CHECKPOINT_TIMEOUT segundos,
+# se detiene la aplicación y el script falla.
+#
+# En otro caso restaura desde CRAC_DIR si existe un checkpoint o, si no lo
+# hay, inicia la aplicación de forma normal. Al restaurar, la variable
+# WebServiceURL del contenedor cambia la URL del backend.
+#
+set -uo pipefail
+
+APP_JAR=/deployments/quarkus-run.jar
+PORT=8080
+
+if [ "${CRAC_CHECKPOINT}" = "true" ]; then
+    mkdir -p "${CRAC_DIR}"
+    # shellcheck disable=SC2086
+    java -XX:CRaCCheckpointTo="${CRAC_DIR}" ${JAVA_OPTS_APPEND} -jar "${APP_JAR}" &
+    APP_PID=$!
+
+    until curl -sf "http://localhost:${PORT}/api/v1/health/ready" > /dev/null; do
+        if ! kill -0 "${APP_PID}" 2> /dev/null; then
+            echo "La aplicación terminó antes de estar lista" >&2
+            exit 1
+        fi
+        sleep 0.5
+    done
+
+    # Calentamiento del camino SOAP: modelo de servicio CXF, contextos JAXB y JIT
+    for i in $(seq 1 "${WARMUP_REQUESTS:-2000}"); do
+        curl -s -o /dev/null -X POST "http://localhost:${PORT}/api/v1/valida-cuentas-mancomunadas" \
+            -H "Content-Type: application/json" \
+            -H "Authorization: Bearer ${WARMUP_TOKEN:-}" \
+            -H "sessionId: crac-${i}" \
+            -H "id_consumidor: crac-warmup" \
+            -H "usuario: crac-warmup" \
+            -H "fecha_hora: 2025-01-28T12:00:00" \
+            -H "terminal: crac-warmup" \
+            -H "operacion: crac-warmup" \
+            -d "{\"cuentaOrigen\":\"$(printf '%010d' $((i % 100)))\",\"cuentaDestino\":\"$(printf '%010d' $((100 + i % 100)))\"}"
+    done
+
+    # jcmd termina con 0 aunque el checkpoint falle; el error solo aparece en su salida
+    if ! CHECKPOINT_OUTPUT=$(jcmd "${APP_PID}" JDK.checkpoint 2>&1) \
+            || grep -qiE "exception|error|fail" <<< "${CHECKPOINT_OUTPUT}"; then
+        echo "Falló el checkpoint: ${CHECKPOINT_OUTPUT}" >&2
+        kill "${APP_PID}" 2> /dev/null
+        wait "${APP_PID}"
+        exit 1
+    fi
+
+    # La JVM termina al completar el checkpoint; si sigue viva, el checkpoint no se tomó
+    for _ in $(seq 1 $(( ${CHECKPOINT_TIMEOUT:-60} * 2 ))); do
+        kill -0 "${APP_PID}" 2> /dev/null || break
+        sleep 0.5
+    done
+    if kill -0 "${APP_PID}" 2> /dev/null; then
+        echo "La JVM no terminó después del checkpoint" >&2
+        kill "${APP_PID}" 2> /dev/null
+        wait "${APP_PID}"
+        exit 1
+    fi
+    wait "${APP_PID}"
+
+    if [ -z "$(ls -A "${CRAC_DIR}" 2>/dev/null)" ]; then
+        echo "El checkpoint no dejó imagen en ${CRAC_DIR}" >&2
+        exit 1
+    fi
+    exit 0
+fi
+
+if [ -d "${CRAC_DIR}" ] && [ -n "$(ls -A "${CRAC_DIR}" 2>/dev/null)" ]; then
+    exec java -XX:CRaCRestoreFrom="${CRAC_DIR}"
+fi
+
+# shellcheck disable=SC2086
+exec java ${JAVA_OPTS_APPEND} -jar "${APP_JAR}"
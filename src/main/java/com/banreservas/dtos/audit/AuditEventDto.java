@@ -0,0 +1,33 @@
+package com.banreservas.dtos.audit;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Evento de auditoría de una validación: encabezados de la solicitud, cuentas
+ * enmascaradas, resultado y duración.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@RegisterForReflection
+public record AuditEventDto(
+        @JsonProperty("timestamp") long timestampMillis,
+        @JsonProperty("sessionId") String sessionId,
+        @JsonProperty("id_consumidor") String consumer,
+        @JsonProperty("usuario") String user,
+        @JsonProperty("terminal") String terminal,
+        @JsonProperty("operacion") String operation,
+        @JsonProperty("fecha_hora") String dateTime,
+        @JsonProperty("cuentaOrigen") String originAccount,
+        @JsonProperty("cuentaDestino") String destinyAccount,
+        @JsonProperty("responseCode") int responseCode,
+        @JsonProperty("resultado") String outcome,
+        @JsonProperty("isValidProduct") Boolean isValidProduct,
+        @JsonProperty("duracionMs") double durationMillis)
+        implements Serializable {
+}
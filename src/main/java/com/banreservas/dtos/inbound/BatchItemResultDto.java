@@ -0,0 +1,39 @@
+package com.banreservas.dtos.inbound;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Resultado de la validación de un elemento de un lote.
+ * Si la validación fue exitosa, {@code isValidProduct} contiene el resultado
+ * del backend; en caso contrario es {@code null} y el código y mensaje
+ * describen la falla del elemento.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@RegisterForReflection
+public record BatchItemResultDto(
+        @JsonProperty("indice") long index,
+        @JsonProperty("cuentaOrigen") String originAccount,
+        @JsonProperty("cuentaDestino") String destinyAccount,
+        @JsonProperty("responseCode") int responseCode,
+        @JsonProperty("responseMessage") String responseMessage,
+        @JsonProperty("isValidProduct") Boolean isValidProduct)
+        implements Serializable {
+
+    /**
+     * Devuelve una copia del resultado con la posición indicada.
+     *
+     * @param index La posición del elemento en la solicitud.
+     * @return El resultado con la posición asignada.
+     */
+    public BatchItemResultDto withIndex(long index) {
+        return new BatchItemResultDto(index, originAccount, destinyAccount, responseCode, responseMessage,
+                isValidProduct);
+    }
+}
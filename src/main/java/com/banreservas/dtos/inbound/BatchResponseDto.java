@@ -0,0 +1,50 @@
+package com.banreservas.dtos.inbound;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * DTO que representa la respuesta de una validación por lote: el encabezado
+ * de la respuesta y un resultado por cada elemento, en el mismo orden de la
+ * solicitud.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@RegisterForReflection
+public class BatchResponseDto {
+
+    private ResponseHeaderDto header;
+    private List<BatchItemResultDto> body;
+
+    /**
+     * Constructor que acepta tanto el encabezado como los resultados del lote.
+     *
+     * @param header El encabezado de la respuesta.
+     * @param body   Los resultados de cada elemento del lote.
+     */
+    public BatchResponseDto(ResponseHeaderDto header, List<BatchItemResultDto> body) {
+        this.header = header;
+        this.body = body;
+    }
+
+    /**
+     * Obtiene el encabezado de la respuesta.
+     *
+     * @return El encabezado de la respuesta.
+     */
+    public ResponseHeaderDto getHeader() {
+        return header;
+    }
+
+    /**
+     * Obtiene los resultados de cada elemento del lote.
+     *
+     * @return Los resultados en el orden de la solicitud.
+     */
+    public List<BatchItemResultDto> getBody() {
+        return body;
+    }
+}
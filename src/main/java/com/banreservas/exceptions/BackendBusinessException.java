@@ -0,0 +1,38 @@
+package com.banreservas.exceptions;
+
+import com.banreservas.utils.defaults.CodeMessages;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Excepción lanzada cuando el backend SOAP responde con un código de error
+ * distinto de {@code "000"}. Es un rechazo de negocio: no se reintenta ni
+ * cuenta como falla para el circuit breaker.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public class BackendBusinessException extends ExpectedException {
+
+    private final String errorCode;
+
+    public BackendBusinessException(String errorCode, String message) {
+        super(message, null);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    @Override
+    public Response.Status getStatus() {
+        return Response.Status.INTERNAL_SERVER_ERROR;
+    }
+
+    @Override
+    public String getResponseMessage() {
+        return CodeMessages.MESSAGE_INTERNAL_SERVER_ERROR;
+    }
+}
@@ -0,0 +1,39 @@
+package com.banreservas.exceptions;
+
+import java.time.Duration;
+
+import com.banreservas.utils.defaults.CodeMessages;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Excepción lanzada cuando el limitador de concurrencia rechaza una llamada al
+ * backend SOAP porque ya se alcanzó el límite de llamadas en curso.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public class BackendOverloadedException extends ExpectedException {
+
+    private final Duration retryAfter;
+
+    public BackendOverloadedException(String message, Duration retryAfter) {
+        super(message, null);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public Response.Status getStatus() {
+        return Response.Status.SERVICE_UNAVAILABLE;
+    }
+
+    @Override
+    public String getResponseMessage() {
+        return CodeMessages.MESSAGE_SERVICE_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.banreservas.exceptions;
+
+import com.banreservas.utils.defaults.CodeMessages;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Excepción lanzada cuando la respuesta exitosa del backend SOAP no puede
+ * decodificarse (p. ej. {@code XMLReresponse} mal formado). No se reintenta.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public class BackendResponseException extends ExpectedException {
+
+    public BackendResponseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public Response.Status getStatus() {
+        return Response.Status.INTERNAL_SERVER_ERROR;
+    }
+
+    @Override
+    public String getResponseMessage() {
+        return CodeMessages.MESSAGE_INTERNAL_SERVER_ERROR;
+    }
+}
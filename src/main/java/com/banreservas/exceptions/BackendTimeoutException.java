@@ -0,0 +1,31 @@
+package com.banreservas.exceptions;
+
+import com.banreservas.utils.defaults.CodeMessages;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Excepción lanzada cuando la llamada al backend SOAP excede el tiempo de
+ * espera. No se reintenta, porque ya se esperó el tiempo completo, pero
+ * cuenta como falla para el circuit breaker.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public class BackendTimeoutException extends ExpectedException {
+
+    public BackendTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public Response.Status getStatus() {
+        return Response.Status.INTERNAL_SERVER_ERROR;
+    }
+
+    @Override
+    public String getResponseMessage() {
+        return CodeMessages.MESSAGE_INTERNAL_SERVER_ERROR;
+    }
+}
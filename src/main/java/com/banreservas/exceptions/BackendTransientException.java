@@ -0,0 +1,31 @@
+package com.banreservas.exceptions;
+
+import com.banreservas.utils.defaults.CodeMessages;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Excepción lanzada cuando la llamada al backend SOAP falla por transporte
+ * (conexión rechazada, conexión reiniciada, respuesta inválida). Es la única
+ * falla que se reintenta.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public class BackendTransientException extends ExpectedException {
+
+    public BackendTransientException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public Response.Status getStatus() {
+        return Response.Status.INTERNAL_SERVER_ERROR;
+    }
+
+    @Override
+    public String getResponseMessage() {
+        return CodeMessages.MESSAGE_INTERNAL_SERVER_ERROR;
+    }
+}
@@ -3,6 +3,7 @@ package com.banreservas.exceptions;
 import com.banreservas.utils.defaults.CodeMessages;
 import com.banreservas.utils.defaults.ErrorResponse;
 
+import jakarta.inject.Inject;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.Response;
@@ -18,12 +19,16 @@ public class ClientWebApplicationExceptionMapper implements ExceptionMapper<Clie
     @Context
     private ContainerRequestContext requestContext;
 
+    @Inject
+    ErrorLogLimiter errorLogLimiter;
+
     private static final Logger LOG = Logger.getLogger(ClientWebApplicationExceptionMapper.class);
 
     @Override
     public Response toResponse(ClientWebApplicationException e) {
-        LOG.error(e.getMessage());
-        if (e.getMessage().contains("400")) {
+        errorLogLimiter.log(LOG, Logger.Level.ERROR, e);
+        if (e.getResponse() != null
+                && e.getResponse().getStatus() == Response.Status.BAD_REQUEST.getStatusCode()) {
             ErrorResponse errorResponse = new ErrorResponse(CodeMessages.MESSAGE_BAD_REQUEST);
             return Response.status(Response.Status.BAD_REQUEST)
                     .header("sessionId", requestContext.getHeaders().getFirst("sessionId"))
@@ -0,0 +1,118 @@
+package com.banreservas.exceptions;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.banreservas.utils.BoundedTagValues;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Registro de errores limitado y sin duplicados para los mappers de
+ * excepciones. Cada error se cuenta en {@code validaciones.errores} por tipo,
+ * pero un mismo tipo y mensaje se escribe en el log a lo sumo una vez por
+ * {@code validation.errors.log-interval}. La siguiente línea indica cuántas
+ * repeticiones se omitieron.
+ *
+ * La ventana de un error se descarta cuando no se repite durante un
+ * intervalo; las repeticiones omitidas que aún no se informaron quedan solo
+ * en {@code validaciones.errores.omitidos}.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class ErrorLogLimiter {
+
+    // Llave compartida cuando se alcanza el máximo de errores distintos
+    private static final String OVERFLOW_KEY = BoundedTagValues.OTHER;
+
+    @ConfigProperty(name = "validation.errors.log-interval", defaultValue = "PT10S")
+    Duration logInterval;
+
+    @ConfigProperty(name = "validation.errors.max-keys", defaultValue = "200")
+    int maxKeys;
+
+    @Inject
+    MeterRegistry registry;
+
+    // Fuente de tiempo de las ventanas; las pruebas la sustituyen para avanzar el reloj
+    Ticker ticker = Ticker.systemTicker();
+
+    Cache<String, Window> windows;
+
+    private final BoundedTagValues types = new BoundedTagValues(50);
+
+    @PostConstruct
+    void init() {
+        windows = Caffeine.newBuilder()
+                .expireAfterAccess(logInterval)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Cuenta el error y lo escribe en el log si no se escribió otro igual
+     * dentro del intervalo.
+     *
+     * @param log   El logger del mapper.
+     * @param level El nivel del log.
+     * @param e     La excepción.
+     */
+    public void log(Logger log, Logger.Level level, Throwable e) {
+        String type = e.getClass().getSimpleName();
+        String tag = types.bound(type);
+        registry.counter("validaciones.errores", "tipo", tag).increment();
+
+        Window window = window(type + ':' + e.getMessage());
+        long now = ticker.read();
+        if (!window.tryAcquire(now, logInterval.toNanos())) {
+            window.suppressed.incrementAndGet();
+            registry.counter("validaciones.errores.omitidos", "tipo", tag).increment();
+            return;
+        }
+
+        long suppressed = window.suppressed.getAndSet(0);
+        if (suppressed > 0) {
+            log.logv(level, "{0}: {1} (+{2} repeticiones omitidas)", type, e.getMessage(), suppressed);
+        } else {
+            log.logv(level, "{0}: {1}", type, e.getMessage());
+        }
+    }
+
+    private Window window(String key) {
+        Window window = windows.getIfPresent(key);
+        if (window != null) {
+            return window;
+        }
+        if (windows.estimatedSize() >= maxKeys) {
+            return windows.get(OVERFLOW_KEY, ignored -> new Window());
+        }
+        return windows.get(key, ignored -> new Window());
+    }
+
+    /**
+     * Ventana de log de un error.
+     */
+    static final class Window {
+
+        private final AtomicLong nextLogAt = new AtomicLong(Long.MIN_VALUE);
+
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private boolean tryAcquire(long now, long intervalNanos) {
+            long next = nextLogAt.get();
+            return (next == Long.MIN_VALUE || now - next >= 0) && nextLogAt.compareAndSet(next, now + intervalNanos);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.banreservas.exceptions;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Base de las fallas esperadas del flujo de validación (rechazos del
+ * backend, fallas de transporte, sobrecarga). No captura la traza de pila:
+ * son frecuentes bajo tormentas de errores y la traza no aporta información.
+ * Cuando existe, la causa original se conserva.
+ *
+ * Cada subtipo define el estado HTTP y el mensaje de la respuesta, que
+ * {@link ExpectedExceptionMapper} resuelve por tipo.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public abstract class ExpectedException extends RuntimeException {
+
+    protected ExpectedException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+
+    /**
+     * Estado HTTP de la respuesta.
+     */
+    public abstract Response.Status getStatus();
+
+    /**
+     * Mensaje de la respuesta, uno de {@code CodeMessages}.
+     */
+    public abstract String getResponseMessage();
+}
@@ -0,0 +1,38 @@
+package com.banreservas.exceptions;
+
+import org.jboss.logging.Logger;
+
+import com.banreservas.utils.defaults.ErrorResponse;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+public class ExpectedExceptionMapper implements ExceptionMapper<ExpectedException> {
+
+    @Context
+    private ContainerRequestContext requestContext;
+
+    @Inject
+    ErrorLogLimiter errorLogLimiter;
+
+    private static final Logger LOG = Logger.getLogger(ExpectedExceptionMapper.class);
+
+    @Override
+    public Response toResponse(ExpectedException e) {
+        errorLogLimiter.log(LOG, e.getStatus() == Response.Status.SERVICE_UNAVAILABLE ? Logger.Level.WARN
+                : Logger.Level.ERROR, e);
+        Response.ResponseBuilder response = Response.status(e.getStatus())
+                .header("sessionId", requestContext.getHeaders().getFirst("sessionId"))
+                .entity(new ErrorResponse(e.getResponseMessage()));
+        if (e instanceof BackendOverloadedException overloaded) {
+            response.header(HttpHeaders.RETRY_AFTER, Math.max(1, overloaded.getRetryAfter().toSeconds()));
+        }
+        return response.build();
+    }
+}
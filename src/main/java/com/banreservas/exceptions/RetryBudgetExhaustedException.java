@@ -0,0 +1,16 @@
+package com.banreservas.exceptions;
+
+/**
+ * Falla transitoria del backend SOAP que no se reintenta porque el
+ * presupuesto de reintentos está agotado.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public class RetryBudgetExhaustedException extends BackendTransientException {
+
+    public RetryBudgetExhaustedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -5,6 +5,7 @@ import org.jboss.logging.Logger;
 import com.banreservas.utils.defaults.CodeMessages;
 import com.banreservas.utils.defaults.ErrorResponse;
 
+import jakarta.inject.Inject;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.Response;
@@ -17,12 +18,14 @@ public class ThrowableMapper implements ExceptionMapper<Throwable> {
     @Context
     private ContainerRequestContext requestContext;
 
+    @Inject
+    ErrorLogLimiter errorLogLimiter;
+
     private static final Logger LOG = Logger.getLogger(ThrowableMapper.class);
 
     @Override
     public Response toResponse(Throwable e) {
-        LOG.error(e.getMessage());
-        LOG.error(e.getLocalizedMessage());
+        errorLogLimiter.log(LOG, Logger.Level.ERROR, e);
         ErrorResponse errorResponse = new ErrorResponse(CodeMessages.MESSAGE_INTERNAL_SERVER_ERROR);
         return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                 .header("sessionId", requestContext.getHeaders().getFirst("sessionId"))
@@ -1,5 +1,6 @@
 package com.banreservas.exceptions;
 
+import jakarta.inject.Inject;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.Context;
@@ -19,11 +20,14 @@ public class WebApplicationExceptionMapper implements ExceptionMapper<WebApplica
     @Context
     private ContainerRequestContext requestContext;
 
+    @Inject
+    ErrorLogLimiter errorLogLimiter;
+
     private static final Logger LOG = Logger.getLogger(WebApplicationExceptionMapper.class);
 
     @Override
     public Response toResponse(WebApplicationException e) {
-        LOG.error(e.getMessage());
+        errorLogLimiter.log(LOG, Logger.Level.ERROR, e);
         return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
                 .header("sessionId", requestContext.getHeaders().getFirst("sessionId"))
                 .entity(new ResponseDto(
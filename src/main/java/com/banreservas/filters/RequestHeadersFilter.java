@@ -0,0 +1,55 @@
+package com.banreservas.filters;
+
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
+
+import com.banreservas.dtos.inbound.ResponseDto;
+import com.banreservas.dtos.inbound.ResponseHeaderDto;
+import com.banreservas.resources.ValidatesJointAccountsResource;
+import com.banreservas.services.implementations.ValidationMetrics;
+import com.banreservas.services.implementations.ValidationMetrics.Stage;
+import com.banreservas.utils.defaults.RequestHeadersValidator;
+
+import io.vertx.core.http.HttpServerRequest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Valida los encabezados obligatorios de las solicitudes de validación en el
+ * hilo de I/O, antes de leer y deserializar el cuerpo. Si falta alguno se
+ * responde de inmediato con el mismo 400 que devolvía el recurso.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class RequestHeadersFilter {
+
+    @Inject
+    ValidationMetrics metrics;
+
+    @ServerRequestFilter(priority = Priorities.USER + 100)
+    public Response validateHeaders(HttpServerRequest request, SimpleResourceInfo resourceInfo) {
+        if (resourceInfo.getResourceClass() != ValidatesJointAccountsResource.class) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        String validation = RequestHeadersValidator.validateRequestHeaders(request.headers());
+        metrics.recordStage(Stage.ENCABEZADOS, start);
+        if (RequestHeadersValidator.VALID.equals(validation)) {
+            return null;
+        }
+
+        return Response.status(Response.Status.BAD_REQUEST)
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(new ResponseDto(
+                        new ResponseHeaderDto(Response.Status.BAD_REQUEST.getStatusCode(), validation),
+                        null))
+                .build();
+    }
+}
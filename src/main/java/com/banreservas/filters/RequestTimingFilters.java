@@ -0,0 +1,52 @@
+package com.banreservas.filters;
+
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
+
+import com.banreservas.resources.ValidatesJointAccountsResource;
+import com.banreservas.services.implementations.ValidationMetrics;
+import com.banreservas.services.implementations.ValidationMetrics.Stage;
+
+import io.quarkus.vertx.http.runtime.filters.Filters;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Filtros que miden la etapa de autenticación de las solicitudes de
+ * validación: el tiempo desde que Vert.x recibe la solicitud hasta que llega a
+ * JAX-RS, que con la autenticación proactiva corresponde a la verificación
+ * OIDC.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class RequestTimingFilters {
+
+    // Llave del contexto de Vert.x con el instante de llegada de la solicitud
+    public static final String REQUEST_START = "validaciones.inicio";
+
+    // Prioridad alta para ejecutarse antes de la autenticación
+    private static final int START_FILTER_PRIORITY = 1000;
+
+    @Inject
+    ValidationMetrics metrics;
+
+    void registerStartFilter(@Observes Filters filters) {
+        filters.register(routingContext -> {
+            routingContext.put(REQUEST_START, System.nanoTime());
+            routingContext.next();
+        }, START_FILTER_PRIORITY);
+    }
+
+    @ServerRequestFilter
+    public void recordAuthentication(RoutingContext routingContext, SimpleResourceInfo resourceInfo) {
+        Long start = routingContext.get(REQUEST_START);
+        if (start != null && resourceInfo.getResourceClass() == ValidatesJointAccountsResource.class) {
+            metrics.recordStage(Stage.AUTENTICACION, start);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.banreservas.health;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+import com.banreservas.services.implementations.StartupWarmup;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Declara la aplicación lista solo cuando terminó el calentamiento de
+ * arranque, para que no reciba tráfico con el camino SOAP en frío.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@Readiness
+@ApplicationScoped
+public class WarmupReadinessCheck implements HealthCheck {
+
+    @Inject
+    StartupWarmup startupWarmup;
+
+    @Override
+    public HealthCheckResponse call() {
+        return HealthCheckResponse.named("calentamiento")
+                .status(startupWarmup.isComplete())
+                .withData("duracionMs", startupWarmup.getDurationMillis())
+                .build();
+    }
+}
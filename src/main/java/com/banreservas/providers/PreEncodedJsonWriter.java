@@ -0,0 +1,81 @@
+package com.banreservas.providers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+import com.banreservas.dtos.inbound.ResponseDto;
+import com.banreservas.utils.PreEncodedJsonBodies;
+import com.banreservas.utils.defaults.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Escritor JSON para {@link ResponseDto} y {@link ErrorResponse}. Las formas
+ * fijas se escriben directamente desde {@link PreEncodedJsonBodies}; cualquier
+ * otra se serializa con el {@link ObjectMapper} de la aplicación, igual que lo
+ * haría el escritor de Jackson.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class PreEncodedJsonWriter implements ServerMessageBodyWriter<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    private final PreEncodedJsonBodies bodies;
+
+    @Inject
+    public PreEncodedJsonWriter(ObjectMapper objectMapper) throws JsonProcessingException {
+        this.objectMapper = objectMapper;
+        this.bodies = new PreEncodedJsonBodies(objectMapper);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target,
+            MediaType mediaType) {
+        return isSupported(type);
+    }
+
+    @Override
+    public void writeResponse(Object entity, Type genericType, ServerRequestContext context)
+            throws WebApplicationException, IOException {
+        context.serverResponse().end(encode(entity));
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isSupported(type);
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        entityStream.write(encode(entity));
+    }
+
+    private byte[] encode(Object entity) throws JsonProcessingException {
+        byte[] preEncoded = bodies.lookup(entity);
+        return preEncoded != null ? preEncoded : objectMapper.writeValueAsBytes(entity);
+    }
+
+    private static boolean isSupported(Class<?> type) {
+        return type == ResponseDto.class || type == ErrorResponse.class;
+    }
+}
@@ -1,14 +1,30 @@
 package com.banreservas.resources;
 
+import java.io.InputStream;
+import java.util.List;
+
+import org.jboss.resteasy.reactive.RestMediaType;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import com.banreservas.dtos.inbound.BatchItemResultDto;
+import com.banreservas.dtos.inbound.BatchResponseDto;
 import com.banreservas.dtos.inbound.RequestDto;
 import com.banreservas.dtos.inbound.ResponseDto;
 import com.banreservas.dtos.inbound.ResponseHeaderDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.services.contracts.IValidatesJointAccountsBatchService;
+import com.banreservas.exceptions.ExpectedException;
 import com.banreservas.services.contracts.IValidatesJointAccountsService;
+import com.banreservas.services.implementations.AuditPipeline;
+import com.banreservas.services.implementations.StaleValidationStore;
+import com.banreservas.services.implementations.ValidationMetrics;
+import com.banreservas.services.implementations.ValidationMetrics.Stage;
 import com.banreservas.utils.defaults.CodeMessages;
-import com.banreservas.utils.defaults.RequestHeadersValidator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 import io.quarkus.security.Authenticated;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -23,6 +39,7 @@ import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 
 /**
  *
@@ -36,9 +53,27 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 public class ValidatesJointAccountsResource {
 
+	// Encabezado que marca una respuesta servida desde el último resultado conocido
+	public static final String STALE_HEADER = "respuesta_obsoleta";
+
+	// Antigüedad en segundos de la respuesta obsoleta (RFC 9111)
+	private static final String AGE_HEADER = "Age";
+
 	@Inject
 	private IValidatesJointAccountsService _validaCuentasMancomunadasService;
 
+	@Inject
+	private IValidatesJointAccountsBatchService _validaCuentasMancomunadasBatchService;
+
+	@Inject
+	private ValidationMetrics _validationMetrics;
+
+	@Inject
+	private StaleValidationStore _staleValidationStore;
+
+	@Inject
+	private AuditPipeline _auditPipeline;
+
 	@POST
 	@RolesAllowed("valida-cuentas-mancomunadas")
 	@Path("/valida-cuentas-mancomunadas")
@@ -47,36 +82,118 @@ public class ValidatesJointAccountsResource {
 	public Uni<Response> validateAccounts(@Valid RequestDto requestDto, @Context HttpHeaders httpHeaders)
 			throws JsonProcessingException {
 
-		// Validación de los encabezados de la solicitud
-		String responseHeaderValidation = RequestHeadersValidator.validateRequestHeaders(httpHeaders);
-		if (!responseHeaderValidation.equalsIgnoreCase("valid")) {
-			return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
-					.entity(new ResponseDto(
-							new ResponseHeaderDto(Response.Status.BAD_REQUEST.getStatusCode(),
-									responseHeaderValidation),
-							null))
-					.build());
-		}
-
+		// Los encabezados ya fueron validados por RequestHeadersFilter
 		MultivaluedMap<String, String> headers = httpHeaders.getRequestHeaders();
 
 		// Llamada reactiva al servicio
+		long serviceStart = System.nanoTime();
 		return _validaCuentasMancomunadasService.validateAccounts(requestDto,
 				headers)
+				.onTermination().invoke(() -> _validationMetrics.recordStage(Stage.SERVICIO, serviceStart))
 				.onItem().transform(responseDto -> {
 					// Construir la respuesta cuando el resultado esté disponible
-					return Response.ok(new ResponseDto(
-							new ResponseHeaderDto(Response.Status.OK
-									.getStatusCode(),
-									CodeMessages.MESSAGE_SUCCESS),
-							responseDto))
-							.header("id_consumidor", headers.getFirst("id_consumidor"))
-							.header("usuario", headers.getFirst("usuario"))
-							.header("fecha_hora", headers.getFirst("fecha_hora"))
-							.header("terminal", headers.getFirst("terminal"))
-							.header("operacion", headers.getFirst("operacion"))
-							.header("sessionId", headers.getFirst("sessionId"))
-							.build();
-				});
+					return okResponse(responseDto, headers).build();
+				})
+				// Con el circuito abierto o tiempo agotado se responde con el último resultado conocido
+				.onFailure(_staleValidationStore::isFallbackFailure).recoverWithUni(failure -> _staleValidationStore
+						.lookup(requestDto, headers.getFirst("operacion"))
+						.map(stale -> Uni.createFrom().item(okResponse(stale.result(), headers)
+								.header(STALE_HEADER, Boolean.TRUE.toString())
+								.header(AGE_HEADER, stale.age().toSeconds())
+								.build()))
+						.orElseGet(() -> Uni.createFrom().failure(failure)))
+				// La auditoría solo encola el evento; el envío ocurre fuera de la solicitud
+				.onItemOrFailure().invoke((response, failure) -> audit(requestDto, headers, response, failure,
+						serviceStart));
+	}
+
+	@POST
+	@RolesAllowed("valida-cuentas-mancomunadas")
+	@Path("/valida-cuentas-mancomunadas/lote")
+	@Produces(MediaType.APPLICATION_JSON)
+	@Consumes(MediaType.APPLICATION_JSON)
+	public Uni<Response> validateAccountsBatch(List<RequestDto> requests, @Context HttpHeaders httpHeaders) {
+
+		// Validación del tamaño del lote
+		if (requests == null || requests.isEmpty()) {
+			return Uni.createFrom().item(badRequest(CodeMessages.MESSAGE_BAD_REQUEST));
+		}
+		if (requests.size() > _validaCuentasMancomunadasBatchService.getMaxBatchSize()) {
+			return Uni.createFrom().item(badRequest(String.format("El lote no puede exceder %d elementos",
+					_validaCuentasMancomunadasBatchService.getMaxBatchSize())));
+		}
+
+		MultivaluedMap<String, String> headers = httpHeaders.getRequestHeaders();
+
+		return _validaCuentasMancomunadasBatchService.validateBatch(requests, headers)
+				.onItem().transform(results -> withRequestHeaders(Response.ok(new BatchResponseDto(
+						new ResponseHeaderDto(Response.Status.OK.getStatusCode(), CodeMessages.MESSAGE_SUCCESS),
+						results)), headers)
+						.build());
+	}
+
+	@POST
+	@Blocking
+	@RolesAllowed("valida-cuentas-mancomunadas")
+	@Path("/valida-cuentas-mancomunadas/lote/stream")
+	@Produces(RestMediaType.APPLICATION_NDJSON)
+	@Consumes(RestMediaType.APPLICATION_NDJSON)
+	@RestStreamElementType(MediaType.APPLICATION_JSON)
+	public Multi<BatchItemResultDto> validateAccountsStream(InputStream body, @Context HttpHeaders httpHeaders) {
+
+		// La entrada se consume a demanda mientras se emiten los resultados
+		return _validaCuentasMancomunadasBatchService.validateStream(body, httpHeaders.getRequestHeaders());
+	}
+
+	private static ResponseBuilder okResponse(ResponseValidatesJointAccountsDto responseDto,
+			MultivaluedMap<String, String> headers) {
+		return withRequestHeaders(Response.ok(new ResponseDto(
+				new ResponseHeaderDto(Response.Status.OK
+						.getStatusCode(),
+						CodeMessages.MESSAGE_SUCCESS),
+				responseDto)), headers);
+	}
+
+	private void audit(RequestDto requestDto, MultivaluedMap<String, String> headers, Response response,
+			Throwable failure, long startNanos) {
+		if (!_auditPipeline.isEnabled()) {
+			return;
+		}
+
+		int status;
+		String outcome;
+		Boolean isValidProduct = null;
+		if (failure == null) {
+			status = response.getStatus();
+			outcome = response.getHeaderString(STALE_HEADER) != null ? "obsoleto" : "exitoso";
+			if (response.getEntity() instanceof ResponseDto responseDto && responseDto.getBody() != null) {
+				isValidProduct = responseDto.getBody().isValidProduct();
+			}
+		} else {
+			status = failure instanceof ExpectedException expected ? expected.getStatus().getStatusCode()
+					: Response.Status.INTERNAL_SERVER_ERROR.getStatusCode();
+			outcome = failure.getClass().getSimpleName();
+		}
+
+		_auditPipeline.submit(headers, requestDto, status, outcome, isValidProduct, startNanos);
+	}
+
+	private static Response badRequest(String message) {
+		return Response.status(Response.Status.BAD_REQUEST)
+				.entity(new ResponseDto(
+						new ResponseHeaderDto(Response.Status.BAD_REQUEST.getStatusCode(), message),
+						null))
+				.build();
+	}
+
+	private static ResponseBuilder withRequestHeaders(ResponseBuilder builder,
+			MultivaluedMap<String, String> headers) {
+		return builder
+				.header("id_consumidor", headers.getFirst("id_consumidor"))
+				.header("usuario", headers.getFirst("usuario"))
+				.header("fecha_hora", headers.getFirst("fecha_hora"))
+				.header("terminal", headers.getFirst("terminal"))
+				.header("operacion", headers.getFirst("operacion"))
+				.header("sessionId", headers.getFirst("sessionId"));
 	}
 }
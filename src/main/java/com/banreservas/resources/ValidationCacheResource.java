@@ -0,0 +1,61 @@
+package com.banreservas.resources;
+
+import com.banreservas.dtos.inbound.ResponseDto;
+import com.banreservas.dtos.inbound.ResponseHeaderDto;
+import com.banreservas.services.implementations.ValidationResultCache;
+import com.banreservas.utils.AccountPairKey;
+import com.banreservas.utils.defaults.CodeMessages;
+
+import io.quarkus.security.Authenticated;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Endpoints administrativos de la cache de resultados de validación.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@Path("/v1/admin/cache-validaciones")
+@Authenticated
+@ApplicationScoped
+public class ValidationCacheResource {
+
+	@Inject
+	private ValidationResultCache _validationResultCache;
+
+	@DELETE
+	@RolesAllowed("admin")
+	@Path("/{cuentaOrigen}/{cuentaDestino}")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response invalidate(@PathParam("cuentaOrigen") String originAccount,
+			@PathParam("cuentaDestino") String destinyAccount) {
+
+		_validationResultCache.invalidate(new AccountPairKey(originAccount, destinyAccount));
+		return success();
+	}
+
+	@DELETE
+	@RolesAllowed("admin")
+	@Produces(MediaType.APPLICATION_JSON)
+	public Response invalidateAll() {
+
+		_validationResultCache.invalidateAll();
+		return success();
+	}
+
+	private static Response success() {
+		return Response.ok(new ResponseDto(
+				new ResponseHeaderDto(Response.Status.OK.getStatusCode(), CodeMessages.MESSAGE_SUCCESS)))
+				.build();
+	}
+}
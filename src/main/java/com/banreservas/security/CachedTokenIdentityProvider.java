@@ -0,0 +1,67 @@
+package com.banreservas.security;
+
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityUtils;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Resuelve los tokens bearer desde {@link VerifiedTokenCache} antes que el
+ * proveedor de OIDC. Si el token no está en la cache devuelve {@code null} y
+ * la verificación sigue con OIDC; {@link TokenCacheAugmentor} guarda el
+ * resultado.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class CachedTokenIdentityProvider implements IdentityProvider<TokenAuthenticationRequest> {
+
+    // Atributo que marca las identidades servidas desde la cache
+    static final String FROM_CACHE = "validaciones.token-cache";
+
+    // Se consulta antes que el proveedor de OIDC
+    private static final int PRIORITY = 1000;
+
+    @Inject
+    VerifiedTokenCache tokenCache;
+
+    @Override
+    public Class<TokenAuthenticationRequest> getRequestType() {
+        return TokenAuthenticationRequest.class;
+    }
+
+    @Override
+    public int priority() {
+        return PRIORITY;
+    }
+
+    @Override
+    public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
+            AuthenticationRequestContext context) {
+        if (!tokenCache.isEnabled()) {
+            return Uni.createFrom().nullItem();
+        }
+
+        SecurityIdentity cached = tokenCache.lookup(request.getToken().getToken());
+        if (cached == null) {
+            return Uni.createFrom().nullItem();
+        }
+
+        // La identidad guardada no tiene contexto de solicitud; se agrega el de la actual
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder(cached)
+                .addAttribute(FROM_CACHE, Boolean.TRUE);
+        RoutingContext routingContext = HttpSecurityUtils.getRoutingContextAttribute(request);
+        if (routingContext != null) {
+            builder.addAttribute(RoutingContext.class.getName(), routingContext);
+        }
+        return Uni.createFrom().item(builder.build());
+    }
+}
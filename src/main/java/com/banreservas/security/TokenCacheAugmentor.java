@@ -0,0 +1,45 @@
+package com.banreservas.security;
+
+import io.quarkus.oidc.AccessTokenCredential;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.SecurityIdentityAugmentor;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Guarda en {@link VerifiedTokenCache} las identidades que OIDC acaba de
+ * verificar. Se ejecuta después de los demás augmentors para que la
+ * identidad guardada incluya sus roles y atributos.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class TokenCacheAugmentor implements SecurityIdentityAugmentor {
+
+    // Los augmentors con menor prioridad se ejecutan al final
+    private static final int PRIORITY = Integer.MIN_VALUE;
+
+    @Inject
+    VerifiedTokenCache tokenCache;
+
+    @Override
+    public int priority() {
+        return PRIORITY;
+    }
+
+    @Override
+    public Uni<SecurityIdentity> augment(SecurityIdentity identity, AuthenticationRequestContext context) {
+        if (tokenCache.isEnabled() && !identity.isAnonymous()
+                && identity.getAttribute(CachedTokenIdentityProvider.FROM_CACHE) == null) {
+            AccessTokenCredential credential = identity.getCredential(AccessTokenCredential.class);
+            if (credential != null) {
+                tokenCache.store(credential.getToken(), identity);
+            }
+        }
+        return Uni.createFrom().item(identity);
+    }
+}
@@ -0,0 +1,180 @@
+package com.banreservas.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Identidades de los tokens bearer ya verificados por OIDC, indexadas por el
+ * SHA-256 del token. Cada entrada expira con el {@code exp} del token (como
+ * máximo {@code validation.auth.token-cache.max-ttl}), de modo que un token
+ * repetido no vuelve a verificarse hasta que vence.
+ *
+ * La clave de la cache es el hash, pero la identidad guardada conserva el
+ * JWT verificado y su credencial, que incluyen el token en claro; solo viven
+ * en memoria y hasta que el token vence. La identidad se guarda sin el
+ * {@link RoutingContext} de la solicitud que la creó.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    // Atributos ligados a la solicitud que creó la identidad
+    private static final Set<String> REQUEST_ATTRIBUTES = Set.of(RoutingContext.class.getName(),
+            CachedTokenIdentityProvider.FROM_CACHE);
+
+    @ConfigProperty(name = "validation.auth.token-cache.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "validation.auth.token-cache.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "validation.auth.token-cache.max-ttl", defaultValue = "PT5M")
+    Duration maxTtl;
+
+    @Inject
+    MeterRegistry registry;
+
+    private Cache<String, Entry> entries;
+
+    private Counter hits;
+
+    private Counter misses;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        long remainingMillis = entry.expiresAtMillis() - System.currentTimeMillis();
+                        return Math.max(0, Math.min(Duration.ofMillis(remainingMillis).toNanos(), maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        hits = Counter.builder("validaciones.autenticacion.cache")
+                .description("Tokens bearer resueltos desde la cache de tokens verificados")
+                .tag("resultado", "acierto")
+                .register(registry);
+        misses = Counter.builder("validaciones.autenticacion.cache")
+                .description("Tokens bearer resueltos desde la cache de tokens verificados")
+                .tag("resultado", "fallo")
+                .register(registry);
+        Gauge.builder("validaciones.autenticacion.cache.tamano", entries, Cache::estimatedSize)
+                .description("Tokens verificados en la cache")
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Busca la identidad de un token ya verificado que no haya vencido.
+     *
+     * @param token El token bearer.
+     * @return La identidad, o {@code null} si no está en la cache.
+     */
+    public SecurityIdentity lookup(String token) {
+        Entry entry = entries.getIfPresent(hash(token));
+        if (entry == null || entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.identity();
+    }
+
+    /**
+     * Guarda la identidad verificada de un token JWT con {@code exp}.
+     *
+     * @param token    El token bearer.
+     * @param identity La identidad creada por OIDC.
+     */
+    public void store(String token, SecurityIdentity identity) {
+        if (!(identity.getPrincipal() instanceof JsonWebToken jwt) || jwt.getExpirationTime() <= 0) {
+            return;
+        }
+        entries.put(hash(token), new Entry(detach(identity), jwt.getExpirationTime() * 1000));
+    }
+
+    /**
+     * Copia la identidad sin los atributos de la solicitud. No se copian
+     * verificadores de permisos: los recursos solo se protegen por rol, y
+     * delegar en la identidad original la mantendría referenciada.
+     */
+    static SecurityIdentity detach(SecurityIdentity identity) {
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder()
+                .setPrincipal(identity.getPrincipal())
+                .addRoles(identity.getRoles())
+                .addCredentials(identity.getCredentials());
+        identity.getAttributes().forEach((name, value) -> {
+            if (!REQUEST_ATTRIBUTES.contains(name)) {
+                builder.addAttribute(name, value);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Descarta todas las entradas.
+     */
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * Identidad verificada y vencimiento del token.
+     */
+    private record Entry(SecurityIdentity identity, long expiresAtMillis) {
+    }
+}
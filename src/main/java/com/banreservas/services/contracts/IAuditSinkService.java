@@ -0,0 +1,24 @@
+package com.banreservas.services.contracts;
+
+import java.util.List;
+
+import com.banreservas.dtos.audit.AuditEventDto;
+
+/**
+ * Destino de los eventos de auditoría. Recibe los eventos en lotes desde el
+ * hilo de drenado de la cola, nunca desde el hilo de la solicitud.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public interface IAuditSinkService {
+
+    /**
+     * Envía un lote de eventos.
+     *
+     * @param events Los eventos, en orden de llegada.
+     * @throws Exception Si el lote no pudo enviarse.
+     */
+    void send(List<AuditEventDto> events) throws Exception;
+}
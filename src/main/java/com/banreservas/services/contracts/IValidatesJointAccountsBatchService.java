@@ -0,0 +1,28 @@
+package com.banreservas.services.contracts;
+
+import java.io.InputStream;
+import java.util.List;
+
+import com.banreservas.dtos.inbound.BatchItemResultDto;
+import com.banreservas.dtos.inbound.RequestDto;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public interface IValidatesJointAccountsBatchService {
+
+    int getMaxBatchSize();
+
+    Uni<List<BatchItemResultDto>> validateBatch(List<RequestDto> requests, MultivaluedMap<String, String> headers);
+
+    Multi<BatchItemResultDto> validateStream(InputStream input, MultivaluedMap<String, String> headers);
+
+}
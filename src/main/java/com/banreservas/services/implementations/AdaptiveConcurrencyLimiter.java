@@ -0,0 +1,147 @@
+package com.banreservas.services.implementations;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Limitador adaptativo de llamadas concurrentes al backend SOAP (AIMD).
+ * El límite crece de forma aditiva mientras la latencia observada se mantiene
+ * por debajo del umbral configurado, y se reduce de forma multiplicativa
+ * cuando la latencia lo supera o la llamada falla por transporte. Las
+ * solicitudes por encima del límite se rechazan de inmediato.
+ *
+ * Publica el límite actual, las llamadas en curso y los rechazos en el
+ * registro de Micrometer.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class AdaptiveConcurrencyLimiter {
+
+    @ConfigProperty(name = "validation.limiter.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "validation.limiter.initial-limit", defaultValue = "20")
+    int initialLimit;
+
+    @ConfigProperty(name = "validation.limiter.min-limit", defaultValue = "2")
+    int minLimit;
+
+    @ConfigProperty(name = "validation.limiter.max-limit", defaultValue = "200")
+    int maxLimit;
+
+    @ConfigProperty(name = "validation.limiter.latency-threshold", defaultValue = "PT2S")
+    Duration latencyThreshold;
+
+    @ConfigProperty(name = "validation.limiter.backoff-ratio", defaultValue = "0.9")
+    double backoffRatio;
+
+    @ConfigProperty(name = "validation.limiter.retry-after", defaultValue = "PT1S")
+    Duration retryAfter;
+
+    @Inject
+    MeterRegistry registry;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+
+    private Counter rejections;
+
+    @PostConstruct
+    void init() {
+        limit = initialLimit;
+        Gauge.builder("validaciones.limitador.limite", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Límite actual de llamadas concurrentes al backend SOAP")
+                .register(registry);
+        Gauge.builder("validaciones.limitador.en-curso", inFlight, AtomicInteger::get)
+                .description("Llamadas al backend SOAP en curso")
+                .register(registry);
+        rejections = Counter.builder("validaciones.limitador.rechazos")
+                .description("Solicitudes rechazadas por superar el límite de concurrencia")
+                .register(registry);
+    }
+
+    /**
+     * Intenta reservar un lugar para una llamada al backend.
+     *
+     * @return {@code true} si la llamada puede ejecutarse; en ese caso se debe
+     *         invocar {@link #release(long, boolean)} al terminar.
+     */
+    public boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejections.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera el lugar reservado y ajusta el límite según la muestra observada.
+     *
+     * @param latencyNanos La duración de la llamada.
+     * @param dropped      {@code true} si la llamada falló por transporte o
+     *                     tiempo de espera.
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        if (!enabled) {
+            return;
+        }
+
+        int current = inFlight.getAndDecrement();
+        onSample(latencyNanos, dropped, current);
+    }
+
+    /**
+     * Libera el lugar reservado sin ajustar el límite; se usa cuando la llamada
+     * se canceló y su duración no refleja la latencia del backend.
+     */
+    public void abandon() {
+        if (!enabled) {
+            return;
+        }
+
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void onSample(long latencyNanos, boolean dropped, int inFlightAtRelease) {
+        if (dropped || latencyNanos > latencyThreshold.toNanos()) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inFlightAtRelease * 2 >= limit) {
+            // Solo se aumenta el límite cuando realmente se está usando
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,282 @@
+package com.banreservas.services.implementations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.banreservas.dtos.audit.AuditEventDto;
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.exceptions.ErrorLogLimiter;
+import com.banreservas.services.contracts.IAuditSinkService;
+import com.banreservas.utils.AccountMasker;
+import com.banreservas.utils.defaults.AuditOverflowPolicy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.vertx.core.Context;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Cola acotada y sin bloqueos de los eventos de auditoría. Las solicitudes
+ * solo encolan el evento; un hilo de drenado los agrupa en lotes de hasta
+ * {@code validation.audit.batch-size} y los entrega a
+ * {@link IAuditSinkService}, de modo que la latencia de la solicitud no
+ * depende del destino.
+ *
+ * Con la cola llena el evento se descarta o, con
+ * {@link AuditOverflowPolicy#BLOCK}, se espera hasta
+ * {@code validation.audit.block-timeout} a que haya espacio. La espera nunca
+ * ocurre en un hilo de I/O.
+ *
+ * Al apagar, el hilo de drenado se detiene antes de enviar lo que queda desde
+ * el hilo de apagado; si el destino no lo deja terminar a tiempo, los eventos
+ * pendientes se pierden en lugar de enviarse en paralelo.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class AuditPipeline {
+
+    private static final Logger LOG = Logger.getLogger(AuditPipeline.class);
+
+    // Pausa entre comprobaciones de espacio con la política BLOCK
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @ConfigProperty(name = "validation.audit.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "validation.audit.queue-capacity", defaultValue = "10000")
+    int queueCapacity;
+
+    @ConfigProperty(name = "validation.audit.batch-size", defaultValue = "200")
+    int batchSize;
+
+    @ConfigProperty(name = "validation.audit.flush-interval", defaultValue = "PT0.2S")
+    Duration flushInterval;
+
+    @ConfigProperty(name = "validation.audit.overflow-policy", defaultValue = "drop")
+    AuditOverflowPolicy overflowPolicy;
+
+    @ConfigProperty(name = "validation.audit.block-timeout", defaultValue = "PT0.05S")
+    Duration blockTimeout;
+
+    @Inject
+    IAuditSinkService auditSinkService;
+
+    @Inject
+    ErrorLogLimiter errorLogLimiter;
+
+    @Inject
+    MeterRegistry registry;
+
+    private final ConcurrentLinkedQueue<AuditEventDto> queue = new ConcurrentLinkedQueue<>();
+
+    // ConcurrentLinkedQueue.size() recorre la cola; el tamaño se lleva aparte
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile boolean running;
+
+    Thread drainer;
+
+    private DistributionSummary batchSizes;
+
+    private Counter dropped;
+
+    private Counter sent;
+
+    private Counter failed;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("validaciones.auditoria.cola", size, AtomicInteger::get)
+                .description("Eventos de auditoría pendientes de envío")
+                .register(registry);
+        batchSizes = DistributionSummary.builder("validaciones.auditoria.lote")
+                .description("Eventos por lote enviado al destino de auditoría")
+                .register(registry);
+        dropped = Counter.builder("validaciones.auditoria.descartados")
+                .description("Eventos de auditoría descartados con la cola llena")
+                .register(registry);
+        sent = Counter.builder("validaciones.auditoria.enviados")
+                .description("Eventos de auditoría entregados al destino")
+                .register(registry);
+        failed = Counter.builder("validaciones.auditoria.fallidos")
+                .description("Eventos de auditoría perdidos por falla del destino")
+                .register(registry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        drainer = new Thread(this::drainLoop, "audit-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (drainer == null) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(flushInterval.toMillis() * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Si el destino sigue ocupado no se drena en paralelo: el destino no recibe lotes concurrentes
+        if (drainer.isAlive()) {
+            drainer.interrupt();
+            Log.warnv("El hilo de auditoría no terminó a tiempo; {0} eventos pendientes no se enviaron", size.get());
+            return;
+        }
+        // Lo que quede se envía desde el hilo de apagado
+        while (drainBatch() > 0) {
+            // continuar hasta vaciar la cola
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Encola un evento de auditoría sin esperar su envío.
+     *
+     * @param event El evento.
+     * @return {@code false} si el evento se descartó por la cola llena.
+     */
+    public boolean submit(AuditEventDto event) {
+        if (!enabled) {
+            return false;
+        }
+
+        if (!tryReserve()) {
+            boolean mayBlock = overflowPolicy == AuditOverflowPolicy.BLOCK && !Context.isOnEventLoopThread();
+            if (!mayBlock || !awaitReserve()) {
+                dropped.increment();
+                return false;
+            }
+        }
+
+        queue.offer(event);
+        return true;
+    }
+
+    /**
+     * Encola el evento de auditoría de una validación con las cuentas
+     * enmascaradas.
+     *
+     * @param headers        Los encabezados de la solicitud.
+     * @param request        Los datos de la solicitud; {@code null} si no
+     *                       pudieron leerse.
+     * @param status         El código HTTP de la respuesta o del elemento.
+     * @param outcome        {@code exitoso}, {@code obsoleto}, o el motivo de
+     *                       la falla.
+     * @param isValidProduct El resultado del backend, si lo hubo.
+     * @param startNanos     El inicio de la validación según
+     *                       {@link System#nanoTime()}.
+     * @return {@code false} si el evento se descartó.
+     */
+    public boolean submit(MultivaluedMap<String, String> headers, RequestDto request, int status, String outcome,
+            Boolean isValidProduct, long startNanos) {
+        if (!enabled) {
+            return false;
+        }
+
+        return submit(new AuditEventDto(
+                System.currentTimeMillis(),
+                headers.getFirst("sessionId"),
+                headers.getFirst("id_consumidor"),
+                headers.getFirst("usuario"),
+                headers.getFirst("terminal"),
+                headers.getFirst("operacion"),
+                headers.getFirst("fecha_hora"),
+                request != null ? AccountMasker.mask(request.originAccount()) : null,
+                request != null ? AccountMasker.mask(request.destinyAccount()) : null,
+                status,
+                outcome,
+                isValidProduct,
+                (System.nanoTime() - startNanos) / 1_000_000.0));
+    }
+
+    private boolean tryReserve() {
+        while (true) {
+            int current = size.get();
+            if (current >= queueCapacity) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean awaitReserve() {
+        long deadline = System.nanoTime() + blockTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (tryReserve()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                // Con lotes completos se sigue drenando sin pausa
+                if (drainBatch() < batchSize) {
+                    LockSupport.parkNanos(flushInterval.toNanos());
+                }
+            } catch (RuntimeException e) {
+                Log.warnv("Falló el drenado de la cola de auditoría: {0}", e.getMessage());
+            }
+        }
+    }
+
+    int drainBatch() {
+        List<AuditEventDto> batch = new ArrayList<>(Math.min(batchSize, Math.max(1, size.get())));
+        AuditEventDto event;
+        while (batch.size() < batchSize && (event = queue.poll()) != null) {
+            batch.add(event);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        size.addAndGet(-batch.size());
+
+        batchSizes.record(batch.size());
+        try {
+            auditSinkService.send(batch);
+            sent.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            errorLogLimiter.log(LOG, Logger.Level.WARN, e);
+        }
+        return batch.size();
+    }
+}
@@ -0,0 +1,80 @@
+package com.banreservas.services.implementations;
+
+import org.apache.cxf.endpoint.Client;
+import org.apache.cxf.endpoint.UpfrontConduitSelector;
+import org.apache.cxf.frontend.ClientProxy;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+import com.banreservas.utils.SoapRequestContext;
+import com.brrd.service.services.IValidarRequest;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Prepara el cliente SOAP para un checkpoint CRaC ({@code Dockerfile.jvm-crac}).
+ * Antes del checkpoint cierra el conduit Vert.x y con él las conexiones del
+ * pool, que el JDK no admite abiertas. Al restaurar instala un conduit nuevo,
+ * aplica la variable de entorno {@code WebServiceURL} del contenedor
+ * restaurado (la configuración leída antes del checkpoint no cambia) y vuelve
+ * a abrir las conexiones con {@link BackendConnectionWarmer}.
+ *
+ * Fuera de un JDK con CRaC el registro no tiene efecto.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class BackendCheckpointResource implements Resource {
+
+    // Variable de entorno con la URL del backend, leída de nuevo al restaurar
+    static final String BACKEND_URL_ENV = "WebServiceURL";
+
+    @Inject
+    @CXFClient("validaCuentasMancomunadas")
+    IValidarRequest validarRequest;
+
+    @Inject
+    BackendConnectionWarmer connectionWarmer;
+
+    @Inject
+    BackendEndpointBalancer endpointBalancer;
+
+    void onStart(@Observes StartupEvent event) {
+        // El contexto global guarda una referencia débil; el bean la mantiene viva
+        Core.getGlobalContext().register(this);
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        Log.info("Cerrando las conexiones con el backend antes del checkpoint");
+        ClientProxy.getClient(validarRequest).getConduit().close();
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        Client client = ClientProxy.getClient(validarRequest);
+        UpfrontConduitSelector selector = new UpfrontConduitSelector();
+        selector.setEndpoint(client.getEndpoint());
+        client.setConduitSelector(selector);
+
+        // Con varios endpoints la dirección se fija en cada llamada
+        String address = System.getenv(BACKEND_URL_ENV);
+        if (address != null && !address.isBlank() && !endpointBalancer.isEnabled()) {
+            SoapRequestContext.setAddress(validarRequest, address);
+            Log.infov("Backend tras la restauración: {0}", address);
+        }
+
+        connectionWarmer.warm().subscribe().with(
+                ignored -> Log.info("Conexiones con el backend abiertas tras la restauración"),
+                failure -> Log.warnv("Falló la apertura de conexiones tras la restauración: {0}",
+                        failure.getMessage()));
+    }
+}
@@ -0,0 +1,111 @@
+package com.banreservas.services.implementations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.banreservas.utils.SoapAsyncInvoker;
+import com.banreservas.utils.SoapRequestContext;
+import com.brrd.service.services.IValidarRequest;
+import com.brrd.service.services.ServiceResponse;
+import com.brrd.service.services.ValidarRequest;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Abre al inicio {@code validation.backend.pool.min-connections} conexiones
+ * con cada endpoint del backend SOAP enviando llamadas concurrentes de
+ * prueba, para que las primeras solicitudes reales no paguen el
+ * establecimiento de la conexión TCP/TLS.
+ *
+ * Las llamadas de prueba usan las cuentas configuradas en
+ * {@code validation.backend.pool.probe-origin-account} y
+ * {@code validation.backend.pool.probe-destiny-account}; sin ellas el
+ * precalentamiento no se ejecuta. El resultado de las llamadas se ignora.
+ * Lo invoca {@link StartupWarmup} como parte del calentamiento de arranque.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class BackendConnectionWarmer {
+
+    // Valor del encabezado id_consumidor en las llamadas de prueba
+    private static final String PROBE_CHANNEL = "precalentamiento";
+
+    @ConfigProperty(name = "validation.backend.pool.min-connections", defaultValue = "0")
+    int minConnections;
+
+    @ConfigProperty(name = "validation.backend.pool.probe-origin-account")
+    Optional<String> probeOriginAccount;
+
+    @ConfigProperty(name = "validation.backend.pool.probe-destiny-account")
+    Optional<String> probeDestinyAccount;
+
+    @Inject
+    @CXFClient("validaCuentasMancomunadas")
+    IValidarRequest validarRequest;
+
+    @Inject
+    BackendEndpointBalancer endpointBalancer;
+
+    /**
+     * Abre las conexiones configuradas.
+     *
+     * @return Completa cuando terminan todas las llamadas de prueba; las fallas
+     *         de las llamadas se ignoran.
+     */
+    public Uni<Void> warm() {
+        if (minConnections <= 0) {
+            return Uni.createFrom().voidItem();
+        }
+        if (probeOriginAccount.isEmpty() || probeDestinyAccount.isEmpty()) {
+            Log.warn("Precalentamiento de conexiones omitido: no hay cuentas de prueba configuradas");
+            return Uni.createFrom().voidItem();
+        }
+
+        List<String> addresses = new ArrayList<>();
+        if (endpointBalancer.isEnabled()) {
+            // La dirección de cada prueba no debe filtrarse al contexto compartido del cliente
+            SoapRequestContext.useThreadLocalContext(validarRequest);
+            for (BackendEndpointBalancer.Endpoint endpoint : endpointBalancer.getEndpoints()) {
+                addresses.add(endpoint.getUrl());
+            }
+        } else {
+            addresses.add(null);
+        }
+
+        // Las llamadas asíncronas concurrentes obligan al pool a abrir una conexión por llamada
+        List<Uni<ServiceResponse>> probes = new ArrayList<>();
+        for (String address : addresses) {
+            for (int i = 0; i < minConnections; i++) {
+                probes.add(SoapAsyncInvoker.validar(validarRequest, probeRequest(), address)
+                        .onFailure().recoverWithNull());
+            }
+        }
+
+        long start = System.nanoTime();
+        return Uni.combine().all().unis(probes).discardItems()
+                .onItem().invoke(() -> Log.infov("Precalentadas {0} conexiones al backend en {1} ms", probes.size(),
+                        (System.nanoTime() - start) / 1_000_000))
+                .onFailure().invoke(failure -> Log.warnv("Falló el precalentamiento de conexiones: {0}",
+                        failure.getMessage()))
+                .onFailure().recoverWithNull();
+    }
+
+    private ValidarRequest probeRequest() {
+        ValidarRequest request = new ValidarRequest();
+        request.setChannel(PROBE_CHANNEL);
+        request.setOperationName(PROBE_CHANNEL);
+        request.setCuentaOrigen(probeOriginAccount.get());
+        request.setCuentaDestino(probeDestinyAccount.get());
+        return request;
+    }
+}
@@ -0,0 +1,355 @@
+package com.banreservas.services.implementations;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.banreservas.utils.defaults.BalancingPolicy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.logging.Log;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Balanceo del lado del cliente entre los endpoints del backend SOAP
+ * configurados en {@code validation.backend.endpoints}.
+ *
+ * Cada llamada elige un endpoint según {@link BalancingPolicy}. Un endpoint
+ * se expulsa cuando acumula fallas de transporte consecutivas o cuando su
+ * latencia promedio supera varias veces la mediana de los demás; la
+ * expulsión crece con cada reincidencia y, al terminar, el endpoint se
+ * readmite de forma gradual recibiendo una fracción creciente del tráfico.
+ *
+ * Si no se configura ninguna lista, el cliente usa {@code WebServiceURL}.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class BackendEndpointBalancer {
+
+    // Peso de la última muestra en el promedio móvil de latencia
+    private static final double EWMA_ALPHA = 0.2;
+
+    // Máximo multiplicador de la duración de la expulsión
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+    @ConfigProperty(name = "validation.backend.endpoints")
+    Optional<List<String>> endpointUrls;
+
+    @ConfigProperty(name = "validation.backend.balancing-policy", defaultValue = "power-of-two")
+    BalancingPolicy policy;
+
+    @ConfigProperty(name = "validation.backend.ejection.consecutive-failures", defaultValue = "5")
+    int consecutiveFailures;
+
+    @ConfigProperty(name = "validation.backend.ejection.latency-factor", defaultValue = "3")
+    double latencyFactor;
+
+    @ConfigProperty(name = "validation.backend.ejection.min-samples", defaultValue = "20")
+    int minSamples;
+
+    @ConfigProperty(name = "validation.backend.ejection.base-time", defaultValue = "PT30S")
+    Duration baseEjectionTime;
+
+    @ConfigProperty(name = "validation.backend.ejection.ramp-up", defaultValue = "PT30S")
+    Duration rampUp;
+
+    @ConfigProperty(name = "validation.backend.ejection.max-percent", defaultValue = "50")
+    int maxEjectionPercent;
+
+    @Inject
+    MeterRegistry registry;
+
+    // Fuente de tiempo de expulsiones y readmisión; las pruebas la sustituyen para avanzar el reloj
+    LongSupplier clock = System::nanoTime;
+
+    private Endpoint[] endpoints = new Endpoint[0];
+
+    @PostConstruct
+    void init() {
+        List<Endpoint> configured = new ArrayList<>();
+        for (String url : endpointUrls.orElse(List.of())) {
+            if (!url.isBlank()) {
+                configured.add(new Endpoint(url.trim(), registry, clock));
+            }
+        }
+        endpoints = configured.toArray(new Endpoint[0]);
+    }
+
+    /**
+     * Indica si hay endpoints configurados para balancear.
+     */
+    public boolean isEnabled() {
+        return endpoints.length > 0;
+    }
+
+    /**
+     * Los endpoints configurados.
+     */
+    public List<Endpoint> getEndpoints() {
+        return List.of(endpoints);
+    }
+
+    /**
+     * Elige el endpoint para una llamada y lo marca como en curso. Se debe
+     * invocar {@link #release(Endpoint, long, boolean)} al terminar, o
+     * {@link #cancel(Endpoint)} si la llamada se cancela.
+     *
+     * @return El endpoint elegido.
+     */
+    public Endpoint select() {
+        long now = clock.getAsLong();
+        List<Endpoint> candidates = new ArrayList<>(endpoints.length);
+        for (Endpoint endpoint : endpoints) {
+            if (isAdmitted(endpoint, now)) {
+                candidates.add(endpoint);
+            }
+        }
+        // Si todos están expulsados se usan todos antes que fallar
+        if (candidates.isEmpty()) {
+            candidates.addAll(Arrays.asList(endpoints));
+        }
+
+        Endpoint selected = policy == BalancingPolicy.LEAST_OUTSTANDING ? leastOutstanding(candidates)
+                : powerOfTwo(candidates);
+        selected.outstanding.incrementAndGet();
+        return selected;
+    }
+
+    /**
+     * Libera el endpoint y actualiza sus estadísticas con la llamada terminada.
+     *
+     * @param endpoint     El endpoint usado.
+     * @param latencyNanos La duración de la llamada.
+     * @param failed       {@code true} si la llamada falló por transporte.
+     */
+    public void release(Endpoint endpoint, long latencyNanos, boolean failed) {
+        endpoint.outstanding.decrementAndGet();
+        endpoint.latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+
+        boolean outlier;
+        if (failed) {
+            endpoint.errors.increment();
+            outlier = endpoint.consecutiveFailures.incrementAndGet() >= consecutiveFailures;
+        } else {
+            endpoint.consecutiveFailures.set(0);
+            endpoint.recordLatency(latencyNanos);
+            outlier = isLatencyOutlier(endpoint);
+        }
+
+        if (outlier) {
+            eject(endpoint);
+        }
+    }
+
+    /**
+     * Libera el endpoint de una llamada cancelada (p. ej. la que pierde contra
+     * la cobertura o la de un cliente que se desconectó) sin registrar su
+     * latencia ni su resultado, que no reflejan el estado del endpoint.
+     *
+     * @param endpoint El endpoint usado.
+     */
+    public void cancel(Endpoint endpoint) {
+        endpoint.outstanding.decrementAndGet();
+    }
+
+    private boolean isAdmitted(Endpoint endpoint, long now) {
+        long ejectedUntil = endpoint.ejectedUntilNanos;
+        if (ejectedUntil == 0) {
+            return true;
+        }
+        if (now < ejectedUntil) {
+            return false;
+        }
+        long elapsed = now - ejectedUntil;
+        if (elapsed >= rampUp.toNanos()) {
+            return true;
+        }
+        // Readmisión gradual: la probabilidad crece linealmente durante el ramp-up
+        return ThreadLocalRandom.current().nextLong(rampUp.toNanos()) < elapsed;
+    }
+
+    private boolean isLatencyOutlier(Endpoint endpoint) {
+        if (endpoints.length < 2 || endpoint.samples() < minSamples) {
+            return false;
+        }
+
+        double[] others = new double[endpoints.length - 1];
+        int count = 0;
+        for (Endpoint other : endpoints) {
+            if (other != endpoint && other.samples() >= minSamples) {
+                others[count++] = other.ewmaLatencyNanos();
+            }
+        }
+        if (count == 0) {
+            return false;
+        }
+        Arrays.sort(others, 0, count);
+        double median = others[count / 2];
+        return endpoint.ewmaLatencyNanos() > median * latencyFactor;
+    }
+
+    private synchronized void eject(Endpoint endpoint) {
+        long now = clock.getAsLong();
+        if (now < endpoint.ejectedUntilNanos) {
+            return;
+        }
+
+        int ejected = 0;
+        for (Endpoint other : endpoints) {
+            if (now < other.ejectedUntilNanos) {
+                ejected++;
+            }
+        }
+        if ((ejected + 1) * 100 > endpoints.length * maxEjectionPercent) {
+            return;
+        }
+
+        int multiplier = Math.min(MAX_EJECTION_MULTIPLIER, ++endpoint.ejections);
+        endpoint.ejectedUntilNanos = now + baseEjectionTime.toNanos() * multiplier;
+        endpoint.consecutiveFailures.set(0);
+        endpoint.resetLatency();
+        endpoint.ejectionCounter.increment();
+        Log.warnv("Endpoint {0} expulsado por {1} s", endpoint.url, baseEjectionTime.toSeconds() * multiplier);
+    }
+
+    private static Endpoint leastOutstanding(List<Endpoint> candidates) {
+        // Se empieza en una posición al azar para repartir los empates
+        int offset = ThreadLocalRandom.current().nextInt(candidates.size());
+        Endpoint best = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            Endpoint candidate = candidates.get((offset + i) % candidates.size());
+            if (best == null || candidate.outstanding.get() < best.outstanding.get()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private static Endpoint powerOfTwo(List<Endpoint> candidates) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = candidates.get(first);
+        Endpoint b = candidates.get(second);
+        return a.outstanding.get() <= b.outstanding.get() ? a : b;
+    }
+
+    /**
+     * Estado de un endpoint del backend.
+     */
+    public static final class Endpoint {
+
+        private final String url;
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+        private final Timer latency;
+
+        private final Counter errors;
+
+        private final Counter ejectionCounter;
+
+        private volatile long ejectedUntilNanos;
+
+        private int ejections;
+
+        private double ewmaLatencyNanos;
+
+        private long samples;
+
+        Endpoint(String url, MeterRegistry registry, LongSupplier clock) {
+            this.url = url;
+            String tag = endpointTag(url);
+            latency = Timer.builder("validaciones.backend.endpoint.latencia")
+                    .description("Latencia de las llamadas por endpoint del backend SOAP")
+                    .tag("endpoint", tag)
+                    .register(registry);
+            errors = Counter.builder("validaciones.backend.endpoint.errores")
+                    .description("Fallas de transporte por endpoint del backend SOAP")
+                    .tag("endpoint", tag)
+                    .register(registry);
+            ejectionCounter = Counter.builder("validaciones.backend.endpoint.expulsiones")
+                    .description("Expulsiones por endpoint del backend SOAP")
+                    .tag("endpoint", tag)
+                    .register(registry);
+            Gauge.builder("validaciones.backend.endpoint.en-curso", outstanding, AtomicInteger::get)
+                    .description("Llamadas en curso por endpoint del backend SOAP")
+                    .tag("endpoint", tag)
+                    .register(registry);
+            Gauge.builder("validaciones.backend.endpoint.expulsado", this,
+                    endpoint -> clock.getAsLong() < endpoint.ejectedUntilNanos ? 1 : 0)
+                    .description("1 si el endpoint está expulsado")
+                    .tag("endpoint", tag)
+                    .register(registry);
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public int getOutstanding() {
+            return outstanding.get();
+        }
+
+        private synchronized void recordLatency(long latencyNanos) {
+            ewmaLatencyNanos = samples == 0 ? latencyNanos
+                    : EWMA_ALPHA * latencyNanos + (1 - EWMA_ALPHA) * ewmaLatencyNanos;
+            samples++;
+        }
+
+        private synchronized void resetLatency() {
+            ewmaLatencyNanos = 0;
+            samples = 0;
+        }
+
+        private synchronized double ewmaLatencyNanos() {
+            return ewmaLatencyNanos;
+        }
+
+        private synchronized long samples() {
+            return samples;
+        }
+
+        /**
+         * Etiqueta del endpoint en las métricas: host, puerto y ruta, para que
+         * dos servicios en el mismo host y puerto no compartan medidores.
+         */
+        private static String endpointTag(String url) {
+            try {
+                URI uri = URI.create(url);
+                if (uri.getHost() == null) {
+                    return url;
+                }
+                String hostPort = uri.getPort() > 0 ? uri.getHost() + ":" + uri.getPort() : uri.getHost();
+                return uri.getRawPath() != null ? hostPort + uri.getRawPath() : hostPort;
+            } catch (IllegalArgumentException e) {
+                return url;
+            }
+        }
+    }
+}
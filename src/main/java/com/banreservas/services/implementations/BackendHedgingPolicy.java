@@ -0,0 +1,157 @@
+package com.banreservas.services.implementations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Política de cobertura (hedging) de las llamadas al backend SOAP. Si la
+ * llamada original no responde dentro del umbral, se envía una segunda
+ * solicitud idéntica y se toma la primera respuesta.
+ *
+ * El umbral es fijo ({@code validation.hedging.delay}) o el percentil
+ * configurado de las latencias recientes. Cada llamada original deposita
+ * {@code validation.hedging.budget-percent} centésimas de cobertura en un
+ * presupuesto acotado, de modo que las coberturas nunca superan ese
+ * porcentaje del tráfico salvo por la ráfaga inicial.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class BackendHedgingPolicy {
+
+    // Cantidad de latencias recientes usadas para el percentil
+    private static final int SAMPLE_SIZE = 1024;
+
+    // Cada cuántas muestras se recalcula el percentil
+    private static final int RECOMPUTE_EVERY = 128;
+
+    // Costo de una cobertura en el presupuesto (centésimas)
+    private static final long HEDGE_COST = 100;
+
+    @ConfigProperty(name = "validation.hedging.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "validation.hedging.delay", defaultValue = "PT0.5S")
+    Duration delay;
+
+    // 0 desactiva el percentil y se usa siempre el umbral fijo
+    @ConfigProperty(name = "validation.hedging.percentile", defaultValue = "0")
+    double percentile;
+
+    @ConfigProperty(name = "validation.hedging.budget-percent", defaultValue = "5")
+    int budgetPercent;
+
+    @ConfigProperty(name = "validation.hedging.budget-burst", defaultValue = "10")
+    int budgetBurst;
+
+    @Inject
+    MeterRegistry registry;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+
+    private final AtomicLong sampleCount = new AtomicLong();
+
+    private final AtomicLong budget = new AtomicLong();
+
+    private volatile Duration percentileDelay;
+
+    private Counter hedgesSent;
+
+    private Counter hedgesWon;
+
+    @PostConstruct
+    void init() {
+        budget.set(budgetBurst * HEDGE_COST);
+        hedgesSent = Counter.builder("validaciones.backend.coberturas.enviadas")
+                .description("Solicitudes de cobertura enviadas al backend SOAP")
+                .register(registry);
+        hedgesWon = Counter.builder("validaciones.backend.coberturas.ganadas")
+                .description("Solicitudes de cobertura que respondieron antes que la original")
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registra una llamada original y abona su parte al presupuesto.
+     */
+    public void onPrimaryCall() {
+        long max = budgetBurst * HEDGE_COST;
+        budget.getAndUpdate(current -> Math.min(max, current + budgetPercent));
+    }
+
+    /**
+     * Intenta consumir el presupuesto para enviar una cobertura.
+     *
+     * @return {@code true} si la cobertura puede enviarse.
+     */
+    public boolean tryAcquireHedge() {
+        while (true) {
+            long current = budget.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - HEDGE_COST)) {
+                hedgesSent.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Registra que la cobertura respondió primero.
+     */
+    public void recordWin() {
+        hedgesWon.increment();
+    }
+
+    /**
+     * Registra la latencia de una llamada completada al backend.
+     *
+     * @param latencyNanos La duración de la llamada.
+     */
+    public void recordLatency(long latencyNanos) {
+        if (!enabled || percentile <= 0) {
+            return;
+        }
+
+        long count = sampleCount.getAndIncrement();
+        samples.set((int) (count % SAMPLE_SIZE), latencyNanos);
+        if ((count + 1) % RECOMPUTE_EVERY == 0) {
+            recomputePercentile(Math.min(count + 1, SAMPLE_SIZE));
+        }
+    }
+
+    /**
+     * Tiempo de espera antes de enviar la cobertura: el percentil de las
+     * latencias recientes si ya se calculó, o el umbral fijo.
+     */
+    public Duration getHedgeDelay() {
+        Duration current = percentileDelay;
+        return current != null ? current : delay;
+    }
+
+    private void recomputePercentile(long available) {
+        long[] sorted = new long[(int) available];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        percentileDelay = Duration.ofNanos(sorted[Math.max(0, index)]);
+    }
+}
@@ -0,0 +1,114 @@
+package com.banreservas.services.implementations;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Presupuesto de reintentos de las llamadas al backend SOAP (token bucket).
+ * Cada intento abona {@code validation.retry.budget-ratio} de un reintento y
+ * cada reintento consume uno entero, de modo que los reintentos no superan
+ * esa fracción del tráfico real salvo por la reserva inicial de
+ * {@code validation.retry.budget-max-tokens}. Con el presupuesto agotado las
+ * fallas transitorias se propagan sin reintentar.
+ *
+ * El reintento se consume en {@link BackendRetryHandler}, que solo se ejecuta
+ * cuando el reintento va a ocurrir, para no gastar presupuesto en el último
+ * intento. Como ese manejador no puede cancelar el reintento, la solicitud
+ * queda marcada y su siguiente intento falla sin llamar al backend.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class BackendRetryBudget {
+
+    // Los tokens se llevan en milésimas para abonar fracciones
+    private static final long TOKEN_SCALE = 1000;
+
+    @ConfigProperty(name = "validation.retry.budget-ratio", defaultValue = "0.1")
+    double budgetRatio;
+
+    @ConfigProperty(name = "validation.retry.budget-max-tokens", defaultValue = "10")
+    int maxTokens;
+
+    @Inject
+    MeterRegistry registry;
+
+    private final AtomicLong tokens = new AtomicLong();
+
+    // Falla original de las solicitudes sin presupuesto, por identidad de la solicitud
+    private final Cache<Object, Throwable> deniedRetries = Caffeine.newBuilder().weakKeys().build();
+
+    private Counter exhausted;
+
+    @PostConstruct
+    void init() {
+        tokens.set(maxTokens * TOKEN_SCALE);
+        exhausted = Counter.builder("validaciones.backend.reintentos.descartados")
+                .description("Fallas transitorias no reintentadas por presupuesto agotado")
+                .register(registry);
+    }
+
+    /**
+     * Registra un intento de llamada al backend y abona su parte al
+     * presupuesto.
+     */
+    public void onAttempt() {
+        long deposit = (long) (budgetRatio * TOKEN_SCALE);
+        long max = maxTokens * TOKEN_SCALE;
+        tokens.getAndUpdate(current -> Math.min(max, current + deposit));
+    }
+
+    /**
+     * Intenta consumir un reintento del presupuesto.
+     *
+     * @return {@code true} si la falla puede reintentarse.
+     */
+    public boolean tryAcquireRetry() {
+        while (true) {
+            long current = tokens.get();
+            if (current < TOKEN_SCALE) {
+                exhausted.increment();
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - TOKEN_SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Consume un reintento para la solicitud; si el presupuesto está agotado,
+     * la marca para que su siguiente intento falle con la falla original.
+     *
+     * @param request La solicitud que se va a reintentar.
+     * @param failure La falla del intento anterior.
+     */
+    public void onRetry(Object request, Throwable failure) {
+        if (!tryAcquireRetry()) {
+            deniedRetries.put(request, failure);
+        }
+    }
+
+    /**
+     * Retira la marca de reintento sin presupuesto de la solicitud.
+     *
+     * @param request La solicitud.
+     * @return La falla original si el intento en curso no tiene presupuesto, o
+     *         {@code null}.
+     */
+    public Throwable takeDeniedRetry(Object request) {
+        return deniedRetries.asMap().remove(request);
+    }
+}
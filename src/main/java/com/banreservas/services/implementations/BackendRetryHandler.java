@@ -0,0 +1,36 @@
+package com.banreservas.services.implementations;
+
+import org.eclipse.microprofile.faulttolerance.ExecutionContext;
+
+import io.quarkus.logging.Log;
+import io.smallrye.faulttolerance.api.BeforeRetryHandler;
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+
+/**
+ * Se ejecuta antes de cada reintento de la llamada al backend SOAP para
+ * contarlo en {@link ValidationMetrics} y consumirlo de
+ * {@link BackendRetryBudget}.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@Dependent
+public class BackendRetryHandler implements BeforeRetryHandler {
+
+    @Inject
+    ValidationMetrics metrics;
+
+    @Inject
+    BackendRetryBudget retryBudget;
+
+    @Override
+    public void handle(ExecutionContext context) {
+        metrics.recordRetry();
+        // El primer parámetro es la solicitud, la misma instancia en cada intento
+        retryBudget.onRetry(context.getParameters()[0], context.getFailure());
+        Log.debugv("Reintentando llamada al backend: {0}",
+                context.getFailure() != null ? context.getFailure().getMessage() : "");
+    }
+}
@@ -0,0 +1,54 @@
+package com.banreservas.services.implementations;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.services.contracts.IValidatesJointAccountsService;
+import com.banreservas.utils.AccountPairKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Decorador de {@link IValidatesJointAccountsService} que responde desde
+ * {@link ValidationResultCache} cuando el par de cuentas ya fue validado.
+ * Solo se almacenan los resultados que el servicio emite como item, es decir,
+ * respuestas "000" del backend; cualquier falla se propaga sin almacenarse.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@Decorator
+@Priority(10)
+public class CachingValidatesJointAccountsService implements IValidatesJointAccountsService {
+
+    @Inject
+    @Delegate
+    IValidatesJointAccountsService delegate;
+
+    @Inject
+    ValidationResultCache cache;
+
+    @Override
+    public Uni<ResponseValidatesJointAccountsDto> validateAccounts(RequestDto request,
+            MultivaluedMap<String, String> headers) throws JsonProcessingException {
+
+        if (!cache.isEnabled()) {
+            return delegate.validateAccounts(request, headers);
+        }
+
+        AccountPairKey key = AccountPairKey.of(request);
+        ResponseValidatesJointAccountsDto cached = cache.get(key);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+
+        return delegate.validateAccounts(request, headers)
+                .invoke(result -> cache.put(key, result));
+    }
+}
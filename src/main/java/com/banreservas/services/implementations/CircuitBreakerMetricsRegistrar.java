@@ -0,0 +1,43 @@
+package com.banreservas.services.implementations;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Registra al inicio un observador de los cambios de estado del circuit
+ * breaker del backend SOAP y los cuenta en {@link ValidationMetrics}. Cuando
+ * el circuito se cierra, revalida los resultados servidos como obsoletos.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class CircuitBreakerMetricsRegistrar {
+
+    @Inject
+    CircuitBreakerMaintenance circuitBreakerMaintenance;
+
+    @Inject
+    ValidationMetrics metrics;
+
+    @Inject
+    StaleValidationStore staleValidationStore;
+
+    void onStart(@Observes StartupEvent event) {
+        // Si el circuit breaker no existe (nombre mal escrito o eliminado) el arranque falla
+        circuitBreakerMaintenance.onStateChange(ValidatesJointAccountsService.CIRCUIT_BREAKER_NAME, state -> {
+            Log.warnv("Circuit breaker {0} cambió a {1}", ValidatesJointAccountsService.CIRCUIT_BREAKER_NAME,
+                    state);
+            metrics.recordCircuitBreakerState(state.name());
+            if (state == CircuitBreakerState.CLOSED) {
+                staleValidationStore.refreshPending();
+            }
+        });
+    }
+}
@@ -0,0 +1,150 @@
+package com.banreservas.services.implementations;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.services.contracts.IValidatesJointAccountsService;
+import com.banreservas.utils.AccountPairKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Decorador de {@link IValidatesJointAccountsService} que agrupa las
+ * validaciones idénticas en curso: mientras exista una llamada al backend para
+ * un par de cuentas, las solicitudes concurrentes del mismo par se suscriben a
+ * ese mismo {@link Uni} y reciben su resultado o su falla.
+ *
+ * Solo se agrupan solicitudes que producirían la misma llamada SOAP: la llave
+ * incluye, además del par de cuentas, los encabezados que se envían al
+ * backend (consumidor, usuario, operación, terminal y fecha-hora).
+ *
+ * Las llamadas en curso se guardan en un {@link ConcurrentHashMap} y se
+ * retiran al terminar, o cuando todas las solicitudes que esperaban se
+ * cancelan.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@Decorator
+@Priority(20)
+public class CoalescingValidatesJointAccountsService implements IValidatesJointAccountsService {
+
+    // Nombre de la métrica de llamadas al backend ahorradas
+    public static final String COALESCED_CALLS_METRIC = "validaciones.backend.agrupadas";
+
+    @Inject
+    @Delegate
+    IValidatesJointAccountsService delegate;
+
+    @ConfigProperty(name = "validation.coalescing.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Inject
+    MeterRegistry registry;
+
+    final ConcurrentMap<CoalescingKey, InFlightCall> inFlight = new ConcurrentHashMap<>();
+
+    private Counter coalescedCalls;
+
+    @PostConstruct
+    void init() {
+        coalescedCalls = Counter.builder(COALESCED_CALLS_METRIC)
+                .description("Llamadas al backend SOAP evitadas por agrupar validaciones idénticas en curso")
+                .register(registry);
+    }
+
+    @Override
+    public Uni<ResponseValidatesJointAccountsDto> validateAccounts(RequestDto request,
+            MultivaluedMap<String, String> headers) throws JsonProcessingException {
+
+        if (!enabled) {
+            return delegate.validateAccounts(request, headers);
+        }
+
+        CoalescingKey key = CoalescingKey.of(request, headers);
+        InFlightCall call = inFlight.get(key);
+        if (call == null) {
+            InFlightCall created = new InFlightCall(key,
+                    Uni.createFrom().deferred(() -> invokeDelegate(request, headers)));
+            call = inFlight.putIfAbsent(key, created);
+            if (call == null) {
+                return created.join();
+            }
+        }
+
+        coalescedCalls.increment();
+        return call.join();
+    }
+
+    private Uni<ResponseValidatesJointAccountsDto> invokeDelegate(RequestDto request,
+            MultivaluedMap<String, String> headers) {
+        try {
+            return delegate.validateAccounts(request, headers);
+        } catch (JsonProcessingException e) {
+            return Uni.createFrom().failure(e);
+        }
+    }
+
+    /**
+     * Llave de agrupación: el par de cuentas y los encabezados que forman parte
+     * de la solicitud SOAP.
+     */
+    record CoalescingKey(AccountPairKey accounts, String consumer, String user, String operation,
+            String terminal, String dateTime) {
+
+        static CoalescingKey of(RequestDto request, MultivaluedMap<String, String> headers) {
+            return new CoalescingKey(AccountPairKey.of(request), headers.getFirst("id_consumidor"),
+                    headers.getFirst("usuario"), headers.getFirst("operacion"), headers.getFirst("terminal"),
+                    headers.getFirst("fecha_hora"));
+        }
+    }
+
+    /**
+     * Llamada al backend compartida por todas las solicitudes del mismo par.
+     */
+    final class InFlightCall {
+
+        private final CoalescingKey key;
+
+        private final Uni<ResponseValidatesJointAccountsDto> shared;
+
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        InFlightCall(CoalescingKey key, Uni<ResponseValidatesJointAccountsDto> backendCall) {
+            this.key = key;
+            this.shared = backendCall
+                    .onTermination().invoke(this::release)
+                    .memoize().indefinitely();
+        }
+
+        Uni<ResponseValidatesJointAccountsDto> join() {
+            return shared
+                    .onSubscription().invoke(subscription -> waiters.incrementAndGet())
+                    .onCancellation().invoke(() -> {
+                        // Si ya nadie espera, las nuevas solicitudes deben iniciar su propia llamada
+                        if (waiters.decrementAndGet() == 0) {
+                            release();
+                        }
+                    });
+        }
+
+        private void release() {
+            inFlight.remove(key, this);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.banreservas.services.implementations;
+
+import java.util.List;
+
+import org.jboss.logging.Logger;
+
+import com.banreservas.dtos.audit.AuditEventDto;
+import com.banreservas.services.contracts.IAuditSinkService;
+import com.banreservas.utils.JsonLogEncoder;
+
+import io.quarkus.arc.DefaultBean;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Destino de auditoría por defecto: escribe cada evento como una línea JSON
+ * en la categoría de log {@value #AUDIT_CATEGORY} con {@link JsonLogEncoder},
+ * que puede enviarse a un handler propio. Se reemplaza declarando otro bean de
+ * {@link IAuditSinkService}.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@DefaultBean
+@ApplicationScoped
+public class LogAuditSinkService implements IAuditSinkService {
+
+    public static final String AUDIT_CATEGORY = "com.banreservas.audit";
+
+    private static final Logger AUDIT_LOG = Logger.getLogger(AUDIT_CATEGORY);
+
+    @Override
+    public void send(List<AuditEventDto> events) {
+        if (!AUDIT_LOG.isInfoEnabled()) {
+            return;
+        }
+
+        // Las cuentas del evento ya vienen enmascaradas
+        for (AuditEventDto event : events) {
+            AUDIT_LOG.info(JsonLogEncoder.begin("auditoria")
+                    .field("timestamp", event.timestampMillis())
+                    .field("sessionId", event.sessionId())
+                    .field("id_consumidor", event.consumer())
+                    .field("usuario", event.user())
+                    .field("terminal", event.terminal())
+                    .field("operacion", event.operation())
+                    .field("fecha_hora", event.dateTime())
+                    .field("cuentaOrigen", event.originAccount())
+                    .field("cuentaDestino", event.destinyAccount())
+                    .field("responseCode", event.responseCode())
+                    .field("resultado", event.outcome())
+                    .field("isValidProduct", event.isValidProduct())
+                    .field("duracionMs", event.durationMillis())
+                    .end());
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.banreservas.services.implementations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.exceptions.BackendTimeoutException;
+import com.banreservas.services.contracts.IValidatesJointAccountsService;
+import com.banreservas.utils.AccountPairKey;
+import com.banreservas.utils.BackendFailures;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Último resultado conocido de los pares de cuentas consultados
+ * recientemente. Se usa como respaldo cuando el circuit breaker del backend
+ * está abierto o la llamada excede el tiempo de espera: la respuesta se sirve
+ * marcada como obsoleta, siempre que su antigüedad no supere el máximo
+ * configurado para la {@code operacion} de la solicitud.
+ *
+ * Los pares servidos como obsoletos se revalidan en segundo plano cuando el
+ * backend se recupera, con la fecha-hora actual en el encabezado
+ * {@code fecha_hora}. Un par cuya revalidación falla, o cuyo resultado ya
+ * superó la antigüedad máxima, deja de revalidarse hasta que vuelva a
+ * servirse como obsoleto.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class StaleValidationStore {
+
+    // Encabezados necesarios para repetir la llamada al backend
+    private static final List<String> REFRESH_HEADERS = List.of("id_consumidor", "fecha_hora", "operacion",
+            "terminal", "usuario", "sessionId");
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    @ConfigProperty(name = "validation.stale.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "validation.stale.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "validation.stale.max-staleness", defaultValue = "PT10M")
+    Duration defaultMaxStaleness;
+
+    // Máximo por operación, con el formato operacion=duración (p. ej. transferencia=PT2M)
+    @ConfigProperty(name = "validation.stale.max-staleness-by-operation")
+    Optional<List<String>> maxStalenessByOperation;
+
+    @ConfigProperty(name = "validation.stale.refresh-concurrency", defaultValue = "4")
+    int refreshConcurrency;
+
+    // Intervalo mínimo entre revalidaciones disparadas por respuestas en vivo
+    @ConfigProperty(name = "validation.stale.refresh-interval", defaultValue = "PT5S")
+    Duration refreshInterval;
+
+    @Inject
+    IValidatesJointAccountsService validatesJointAccountsService;
+
+    @Inject
+    ValidationResultCache validationResultCache;
+
+    @Inject
+    MeterRegistry registry;
+
+    // Fuente de tiempo de antigüedad y expiración; las pruebas la sustituyen para avanzar el reloj
+    Ticker ticker = Ticker.systemTicker();
+
+    private final Map<String, Duration> maxStaleness = new HashMap<>();
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private final AtomicLong lastRefreshNanos = new AtomicLong();
+
+    private Cache<AccountPairKey, Entry> entries;
+
+    private Cache<AccountPairKey, Entry> pendingRefresh;
+
+    private Counter staleResponses;
+
+    @PostConstruct
+    void init() {
+        Duration retention = defaultMaxStaleness;
+        for (String value : maxStalenessByOperation.orElse(List.of())) {
+            int separator = value.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Valor inválido en validation.stale.max-staleness-by-operation: "
+                        + value);
+            }
+            Duration duration = Duration.parse(value.substring(separator + 1).trim());
+            maxStaleness.put(value.substring(0, separator).trim(), duration);
+            if (duration.compareTo(retention) > 0) {
+                retention = duration;
+            }
+        }
+
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(retention)
+                .ticker(ticker)
+                .build();
+        // Un par pendiente deja de revalidarse cuando su resultado ya no podría servirse
+        pendingRefresh = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(retention)
+                .ticker(ticker)
+                .build();
+        lastRefreshNanos.set(ticker.read() - refreshInterval.toNanos());
+        staleResponses = Counter.builder("validaciones.respuestas-obsoletas")
+                .description("Respuestas servidas desde el último resultado conocido")
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Guarda el resultado obtenido del backend para el par de cuentas. Lo
+     * invoca el servicio tras la llamada SOAP, por lo que los resultados
+     * servidos desde el caché no se registran como recientes.
+     *
+     * @param request La solicitud.
+     * @param headers Los encabezados de la solicitud.
+     * @param result  El resultado obtenido.
+     */
+    public void record(RequestDto request, MultivaluedMap<String, String> headers,
+            ResponseValidatesJointAccountsDto result) {
+        if (!enabled) {
+            return;
+        }
+
+        AccountPairKey key = AccountPairKey.of(request);
+        long now = ticker.read();
+        entries.put(key, new Entry(request, copyHeaders(headers), result, now));
+        pendingRefresh.invalidate(key);
+
+        // Una respuesta en vivo indica que el backend volvió a responder; para no
+        // revalidar con cada respuesta se hace como máximo una vez por intervalo
+        long last = lastRefreshNanos.get();
+        if (now - last >= refreshInterval.toNanos() && pendingRefresh.estimatedSize() > 0
+                && lastRefreshNanos.compareAndSet(last, now)) {
+            refreshPending();
+        }
+    }
+
+    /**
+     * Indica si la falla permite responder con el último resultado conocido.
+     *
+     * @param failure La falla de la llamada al backend.
+     * @return {@code true} si el circuit breaker está abierto o la llamada
+     *         excedió el tiempo de espera.
+     */
+    public boolean isFallbackFailure(Throwable failure) {
+        if (!enabled) {
+            return false;
+        }
+
+        return failure instanceof CircuitBreakerOpenException
+                || failure instanceof BackendTimeoutException
+                || BackendFailures.isTimeout(failure);
+    }
+
+    /**
+     * Busca el último resultado conocido del par de cuentas, si su antigüedad
+     * no supera el máximo de la operación. Si lo encuentra, agenda su
+     * revalidación.
+     *
+     * @param request   La solicitud.
+     * @param operation El encabezado {@code operacion}.
+     * @return El resultado y su antigüedad.
+     */
+    public Optional<StaleResult> lookup(RequestDto request, String operation) {
+        AccountPairKey key = AccountPairKey.of(request);
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        Duration age = Duration.ofNanos(ticker.read() - entry.recordedAtNanos());
+        if (age.compareTo(maxStalenessOf(operation)) > 0) {
+            return Optional.empty();
+        }
+
+        pendingRefresh.put(key, entry);
+        staleResponses.increment();
+        return Optional.of(new StaleResult(entry.result(), age));
+    }
+
+    /**
+     * Revalida en segundo plano los pares servidos como obsoletos. Se invoca
+     * cuando el circuit breaker se cierra o llega una respuesta en vivo.
+     */
+    public void refreshPending() {
+        if (!enabled || pendingRefresh.estimatedSize() == 0 || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<Entry> toRefresh = List.copyOf(pendingRefresh.asMap().values());
+        Log.infov("Revalidando {0} resultados obsoletos", toRefresh.size());
+
+        Multi.createFrom().iterable(toRefresh)
+                .onItem().transformToUni(entry -> refresh(entry))
+                .merge(refreshConcurrency)
+                .onTermination().invoke(() -> refreshing.set(false))
+                .subscribe().with(ignored -> {
+                }, failure -> Log.warnv("Falló la revalidación de resultados obsoletos: {0}",
+                        failure.getMessage()));
+    }
+
+    private Uni<Boolean> refresh(Entry entry) {
+        AccountPairKey key = AccountPairKey.of(entry.request());
+        Duration age = Duration.ofNanos(ticker.read() - entry.recordedAtNanos());
+        if (age.compareTo(maxStalenessOf(entry.headers().getFirst("operacion"))) > 0) {
+            pendingRefresh.invalidate(key);
+            return Uni.createFrom().item(Boolean.FALSE);
+        }
+
+        // Se repite la solicitud original con la fecha-hora de la revalidación; sin
+        // la entrada del caché la llamada llega al backend, que registra el resultado
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>(entry.headers());
+        headers.putSingle("fecha_hora", LocalDateTime.now().format(DATE_TIME_FORMAT));
+        validationResultCache.invalidate(key);
+        try {
+            return validatesJointAccountsService.validateAccounts(entry.request(), headers)
+                    .onItem().transform(result -> Boolean.TRUE)
+                    .onFailure().recoverWithItem(failure -> {
+                        pendingRefresh.invalidate(key);
+                        return Boolean.FALSE;
+                    });
+        } catch (Exception e) {
+            pendingRefresh.invalidate(key);
+            return Uni.createFrom().item(Boolean.FALSE);
+        }
+    }
+
+    private Duration maxStalenessOf(String operation) {
+        return operation != null ? maxStaleness.getOrDefault(operation, defaultMaxStaleness) : defaultMaxStaleness;
+    }
+
+    private static MultivaluedMap<String, String> copyHeaders(MultivaluedMap<String, String> headers) {
+        MultivaluedMap<String, String> copy = new MultivaluedHashMap<>();
+        for (String name : REFRESH_HEADERS) {
+            String value = headers.getFirst(name);
+            if (value != null) {
+                copy.putSingle(name, value);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Último resultado conocido de un par de cuentas.
+     */
+    private record Entry(RequestDto request, MultivaluedMap<String, String> headers,
+            ResponseValidatesJointAccountsDto result, long recordedAtNanos) {
+    }
+
+    /**
+     * Resultado servido como obsoleto y su antigüedad.
+     *
+     * @param result El último resultado conocido.
+     * @param age    El tiempo transcurrido desde que se obtuvo.
+     */
+    public record StaleResult(ResponseValidatesJointAccountsDto result, Duration age) {
+    }
+}
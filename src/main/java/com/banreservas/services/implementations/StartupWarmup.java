@@ -0,0 +1,216 @@
+package com.banreservas.services.implementations;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.cxf.databinding.DataBinding;
+import org.apache.cxf.frontend.ClientProxy;
+import org.apache.cxf.jaxb.JAXBDataBinding;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseDto;
+import com.banreservas.dtos.inbound.ResponseHeaderDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.utils.SoapRequestContext;
+import com.banreservas.utils.ValidProductXmlDecoder;
+import com.banreservas.utils.defaults.CodeMessages;
+import com.banreservas.utils.defaults.RequestHeadersValidator;
+import com.brrd.service.services.IValidarRequest;
+import com.brrd.service.services.ServiceResponse;
+import com.brrd.service.services.ValidarRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.MultiMap;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+
+/**
+ * Calentamiento de arranque. Antes de que la aplicación se declare lista
+ * ({@code WarmupReadinessCheck}) crea el cliente CXF, ejecuta
+ * {@code validation.warmup.iterations} rondas sintéticas de las etapas de la
+ * solicitud (encabezados, JSON, JAXB de la solicitud y respuesta SOAP con el
+ * contexto del binding de datos del cliente CXF, decodificación de
+ * {@code XMLReresponse}) y abre las conexiones con el backend mediante
+ * {@link BackendConnectionWarmer}.
+ *
+ * Si el calentamiento falla o excede {@code validation.warmup.timeout}, la
+ * aplicación se declara lista igualmente para no quedar fuera de servicio.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class StartupWarmup {
+
+    private static final String REQUEST_JSON = "{\"cuentaDestino\":\"0987654321\",\"cuentaOrigen\":\"1234567890\"}";
+
+    private static final String XML_RESPONSE = "<ProductoValidos><ProductoValido><Resultado>TRUE</Resultado>"
+            + "</ProductoValido></ProductoValidos>";
+
+    // Cuerpo rpc/literal de ValidarResponse tal como lo entrega el backend
+    private static final String SERVICE_RESPONSE_XML = "<Response>"
+            + "<errorCode>000</errorCode><errorMessage>Exitoso</errorMessage>"
+            + "<XMLReresponse>&lt;ProductoValidos&gt;&lt;ProductoValido&gt;&lt;Resultado&gt;TRUE"
+            + "&lt;/Resultado&gt;&lt;/ProductoValido&gt;&lt;/ProductoValidos&gt;</XMLReresponse>"
+            + "</Response>";
+
+    @ConfigProperty(name = "validation.warmup.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "validation.warmup.iterations", defaultValue = "200")
+    int iterations;
+
+    @ConfigProperty(name = "validation.warmup.timeout", defaultValue = "PT60S")
+    Duration timeout;
+
+    @Inject
+    @CXFClient("validaCuentasMancomunadas")
+    IValidarRequest validarRequest;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    BackendConnectionWarmer connectionWarmer;
+
+    @Inject
+    MeterRegistry registry;
+
+    private volatile boolean complete;
+
+    private volatile long durationMillis = -1;
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            complete = true;
+            return;
+        }
+
+        long start = System.nanoTime();
+        // Fuera del hilo de arranque y de los hilos de I/O
+        Uni.createFrom().item(() -> {
+            warmLocalPaths();
+            return Boolean.TRUE;
+        })
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .chain(ignored -> connectionWarmer.warm())
+                .ifNoItem().after(timeout).fail()
+                .onFailure().invoke(failure -> Log.warnv("Calentamiento de arranque incompleto: {0}", failure))
+                .onFailure().recoverWithNull()
+                .subscribe().with(ignored -> finish(start));
+    }
+
+    /**
+     * Indica si el calentamiento terminó (o no está habilitado).
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Duración del calentamiento en milisegundos, o -1 si no terminó o no se
+     * ejecutó.
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    private void warmLocalPaths() {
+        SoapRequestContext.initialize(validarRequest);
+
+        try {
+            JAXBContext jaxbContext = clientJaxbContext();
+            MultiMap headers = sampleHeaders();
+            ValidarRequest request = sampleRequest();
+            ResponseDto response = new ResponseDto(
+                    new ResponseHeaderDto(200, CodeMessages.MESSAGE_SUCCESS),
+                    new ResponseValidatesJointAccountsDto(true));
+
+            for (int i = 0; i < iterations; i++) {
+                RequestHeadersValidator.validateRequestHeaders(headers);
+                objectMapper.readValue(REQUEST_JSON, RequestDto.class);
+
+                // El binding es rpc/literal: la parte ServiceRequest no tiene elemento raíz propio
+                Marshaller marshaller = jaxbContext.createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+                marshaller.marshal(new JAXBElement<>(new QName("ServiceRequest"), ValidarRequest.class, request),
+                        new StringWriter());
+                Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+                unmarshaller.unmarshal(new StreamSource(new StringReader(SERVICE_RESPONSE_XML)),
+                        ServiceResponse.class);
+
+                ValidProductXmlDecoder.isValidProduct(XML_RESPONSE);
+                objectMapper.writeValueAsBytes(response);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Falló el calentamiento de la serialización: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Contexto JAXB del binding de datos del cliente CXF: el mismo que usan
+     * las llamadas reales, de modo que se calientan sus serializadores y no
+     * los de un contexto aparte.
+     */
+    private JAXBContext clientJaxbContext() throws JAXBException {
+        DataBinding dataBinding = ClientProxy.getClient(validarRequest).getEndpoint().getService()
+                .getDataBinding();
+        if (dataBinding instanceof JAXBDataBinding jaxbDataBinding) {
+            return jaxbDataBinding.getContext();
+        }
+        throw new JAXBException("El cliente CXF no usa JAXB: " + dataBinding);
+    }
+
+    private void finish(long start) {
+        long elapsed = System.nanoTime() - start;
+        durationMillis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        Timer.builder("validaciones.arranque.calentamiento")
+                .description("Duración del calentamiento de arranque")
+                .register(registry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        complete = true;
+        Log.infov("Calentamiento de arranque terminado en {0} ms", durationMillis);
+    }
+
+    private static MultiMap sampleHeaders() {
+        return MultiMap.caseInsensitiveMultiMap()
+                .add("id_consumidor", "calentamiento")
+                .add("usuario", "calentamiento")
+                .add("fecha_hora", "2025-01-28T12:00:00")
+                .add("terminal", "calentamiento")
+                .add("operacion", "calentamiento")
+                .add("sessionId", "calentamiento");
+    }
+
+    private static ValidarRequest sampleRequest() {
+        ValidarRequest request = new ValidarRequest();
+        request.setChannel("calentamiento");
+        request.setDate("2025-01-28T12:00:00");
+        request.setOperationName("calentamiento");
+        request.setTerminal("calentamiento");
+        request.setUser("calentamiento");
+        request.setCuentaOrigen("1234567890");
+        request.setCuentaDestino("0987654321");
+        return request;
+    }
+}
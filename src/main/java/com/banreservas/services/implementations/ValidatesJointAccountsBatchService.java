@@ -0,0 +1,230 @@
+package com.banreservas.services.implementations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.banreservas.dtos.inbound.BatchItemResultDto;
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.exceptions.ErrorLogLimiter;
+import com.banreservas.exceptions.ExpectedException;
+import com.banreservas.services.contracts.IValidatesJointAccountsBatchService;
+import com.banreservas.services.contracts.IValidatesJointAccountsService;
+import com.banreservas.utils.AccountPairKey;
+import com.banreservas.utils.defaults.CodeMessages;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.validation.Validator;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Validación por lote de pares de cuentas.
+ * Los pares repetidos se consultan una sola vez y las consultas al backend se
+ * ejecutan con una concurrencia máxima configurable. La falla de un elemento se
+ * informa en su resultado sin afectar al resto del lote.
+ *
+ * En modo streaming (NDJSON) la entrada se procesa línea a línea como un
+ * {@link Multi} con contrapresión, y cada resultado se emite en cuanto está
+ * disponible, por lo que su orden puede diferir del de la entrada; el campo
+ * {@code indice} identifica la línea de origen (desde 0, contando las líneas
+ * en blanco, que se omiten).
+ *
+ * Con la auditoría habilitada cada elemento produce su propio evento: los
+ * validados contra el backend, con su duración, y los inválidos con el
+ * resultado {@code solicitud-invalida}. Un par repetido en el lote se audita
+ * una vez, igual que se consulta una vez.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@ApplicationScoped
+public class ValidatesJointAccountsBatchService implements IValidatesJointAccountsBatchService {
+
+	private static final Logger LOG = Logger.getLogger(ValidatesJointAccountsBatchService.class);
+
+	@Inject
+	private IValidatesJointAccountsService _validaCuentasMancomunadasService;
+
+	@Inject
+	private Validator _validator;
+
+	@Inject
+	private ObjectMapper _objectMapper;
+
+	@Inject
+	private AuditPipeline _auditPipeline;
+
+	@Inject
+	private ErrorLogLimiter _errorLogLimiter;
+
+	@ConfigProperty(name = "validation.batch.concurrency", defaultValue = "8")
+	int concurrency;
+
+	@ConfigProperty(name = "validation.batch.max-size", defaultValue = "1000")
+	int maxBatchSize;
+
+	@Override
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	@Override
+	public Uni<List<BatchItemResultDto>> validateBatch(List<RequestDto> requests,
+			MultivaluedMap<String, String> headers) {
+
+		// Se consulta una sola vez cada par de cuentas válido
+		boolean[] valid = new boolean[requests.size()];
+		Map<AccountPairKey, RequestDto> uniqueRequests = new LinkedHashMap<>();
+		for (int i = 0; i < requests.size(); i++) {
+			RequestDto request = requests.get(i);
+			valid[i] = isValid(request);
+			if (valid[i]) {
+				uniqueRequests.putIfAbsent(AccountPairKey.of(request), request);
+			}
+		}
+
+		Log.infov("Validación por lote, elementos: {0}, pares únicos: {1}", requests.size(),
+				uniqueRequests.size());
+
+		return Multi.createFrom().iterable(uniqueRequests.values())
+				.onItem().transformToUni(request -> validateItem(request, headers)).merge(concurrency)
+				.collect().asMap(result -> new AccountPairKey(result.originAccount(), result.destinyAccount()))
+				.onItem().transform(results -> {
+					// Se arma la respuesta en el mismo orden de la solicitud
+					List<BatchItemResultDto> ordered = new ArrayList<>(requests.size());
+					for (int i = 0; i < requests.size(); i++) {
+						RequestDto request = requests.get(i);
+						BatchItemResultDto result = valid[i] ? results.get(AccountPairKey.of(request))
+								: invalidItem(request, headers);
+						ordered.add(result.withIndex(i));
+					}
+					return ordered;
+				});
+	}
+
+	@Override
+	public Multi<BatchItemResultDto> validateStream(InputStream input, MultivaluedMap<String, String> headers) {
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		AtomicLong lineNumber = new AtomicLong();
+
+		// Las líneas se leen a demanda: merge solo solicita una nueva línea cuando
+		// termina una validación, por lo que la memoria no depende del tamaño de la entrada
+		return Multi.createFrom().iterable(() -> reader.lines().iterator())
+				.runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+				// Se numera antes de descartar las líneas en blanco para que el índice sea la línea de origen
+				.onItem().transform(line -> new StreamLine(lineNumber.getAndIncrement(), line))
+				.select().where(line -> !line.content().isBlank())
+				.onItem().transformToUni(line -> validateLine(line, headers)).merge(concurrency)
+				.onTermination().invoke(() -> closeQuietly(reader));
+	}
+
+	/**
+	 * Convierte una línea NDJSON en solicitud y la valida; una línea que no
+	 * puede leerse se informa como elemento inválido.
+	 */
+	Uni<BatchItemResultDto> validateLine(StreamLine line, MultivaluedMap<String, String> headers) {
+		RequestDto request;
+		try {
+			request = _objectMapper.readValue(line.content(), RequestDto.class);
+		} catch (JsonProcessingException e) {
+			return Uni.createFrom().item(invalidItem(null, headers).withIndex(line.index()));
+		}
+
+		if (!isValid(request)) {
+			return Uni.createFrom().item(invalidItem(request, headers).withIndex(line.index()));
+		}
+		return validateItem(request, headers).onItem().transform(result -> result.withIndex(line.index()));
+	}
+
+	/**
+	 * Valida un elemento contra el backend, convirtiendo cualquier falla en un
+	 * resultado con error. Las fallas esperadas conservan su estado y mensaje;
+	 * las demás se informan como error interno.
+	 */
+	Uni<BatchItemResultDto> validateItem(RequestDto request, MultivaluedMap<String, String> headers) {
+		long start = System.nanoTime();
+		return Uni.createFrom().deferred(() -> {
+			try {
+				return _validaCuentasMancomunadasService.validateAccounts(request, headers);
+			} catch (Exception e) {
+				return Uni.createFrom().failure(e);
+			}
+		})
+				.onItem().transform(response -> {
+					_auditPipeline.submit(headers, request, Response.Status.OK.getStatusCode(), "exitoso",
+							response.isValidProduct(), start);
+					return new BatchItemResultDto(0, request.originAccount(), request.destinyAccount(),
+							Response.Status.OK.getStatusCode(), CodeMessages.MESSAGE_SUCCESS,
+							response.isValidProduct());
+				})
+				.onFailure().recoverWithItem(e -> {
+					// Mismo estado y mensaje que ExpectedExceptionMapper en la validación individual
+					int status = e instanceof ExpectedException expected ? expected.getStatus().getStatusCode()
+							: Response.Status.INTERNAL_SERVER_ERROR.getStatusCode();
+					String message = e instanceof ExpectedException expected ? expected.getResponseMessage()
+							: CodeMessages.MESSAGE_INTERNAL_SERVER_ERROR;
+					// Un lote contra un backend caído repite el mismo error en cada elemento
+					Logger.Level level = status == Response.Status.SERVICE_UNAVAILABLE.getStatusCode()
+							? Logger.Level.WARN : Logger.Level.ERROR;
+					_errorLogLimiter.log(LOG, level, e);
+					_auditPipeline.submit(headers, request, status, e.getClass().getSimpleName(), null, start);
+					return new BatchItemResultDto(0, request.originAccount(), request.destinyAccount(), status,
+							message, null);
+				});
+	}
+
+	private static void closeQuietly(BufferedReader reader) {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			Log.debugv("Error cerrando la entrada NDJSON: {0}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Línea de la entrada NDJSON con su posición.
+	 */
+	record StreamLine(long index, String content) {
+	}
+
+	/**
+	 * Indica si el elemento cumple las validaciones de {@link RequestDto}.
+	 */
+	boolean isValid(RequestDto request) {
+		return request != null && _validator.validate(request).isEmpty();
+	}
+
+	/**
+	 * Resultado para un elemento que no cumple las validaciones de la
+	 * solicitud; se audita sin consultar el backend.
+	 */
+	BatchItemResultDto invalidItem(RequestDto request, MultivaluedMap<String, String> headers) {
+		_auditPipeline.submit(headers, request, Response.Status.BAD_REQUEST.getStatusCode(), "solicitud-invalida",
+				null, System.nanoTime());
+		return new BatchItemResultDto(0,
+				request != null ? request.originAccount() : null,
+				request != null ? request.destinyAccount() : null,
+				Response.Status.BAD_REQUEST.getStatusCode(), CodeMessages.MESSAGE_BAD_REQUEST, null);
+	}
+}
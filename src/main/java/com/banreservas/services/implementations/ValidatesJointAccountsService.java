@@ -1,22 +1,47 @@
 package com.banreservas.services.implementations;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
 import org.eclipse.microprofile.faulttolerance.Retry;
 
 import com.banreservas.dtos.inbound.RequestDto;
 import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
-import com.banreservas.dtos.outbound.ResponseWsDto;
+import com.banreservas.exceptions.BackendBusinessException;
+import com.banreservas.exceptions.BackendOverloadedException;
+import com.banreservas.exceptions.BackendResponseException;
+import com.banreservas.exceptions.BackendTimeoutException;
+import com.banreservas.exceptions.BackendTransientException;
+import com.banreservas.exceptions.ExpectedException;
+import com.banreservas.exceptions.RetryBudgetExhaustedException;
 import com.banreservas.services.contracts.IValidatesJointAccountsService;
+import com.banreservas.services.implementations.ValidationMetrics.Stage;
+import com.banreservas.utils.BackendFailures;
+import com.banreservas.utils.JsonLogEncoder;
+import com.banreservas.utils.SoapAsyncInvoker;
+import com.banreservas.utils.SoapRequestContext;
+import com.banreservas.utils.ValidProductXmlDecoder;
+import com.banreservas.utils.defaults.BackendInvocationMode;
 import com.brrd.service.services.IValidarRequest;
 import com.brrd.service.services.ServiceResponse;
 import com.brrd.service.services.ValidarRequest;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 
 import io.quarkiverse.cxf.annotation.CXFClient;
 import io.quarkus.logging.Log;
+import io.quarkus.virtual.threads.VirtualThreads;
+import io.smallrye.faulttolerance.api.BeforeRetry;
+import io.smallrye.faulttolerance.api.CircuitBreakerName;
+import io.smallrye.faulttolerance.api.ExponentialBackoff;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.MultivaluedMap;
@@ -31,19 +56,71 @@ import jakarta.ws.rs.core.MultivaluedMap;
 @ApplicationScoped
 public class ValidatesJointAccountsService implements IValidatesJointAccountsService {
 
+	// Nombre del circuit breaker del backend SOAP
+	public static final String CIRCUIT_BREAKER_NAME = "validaCuentasMancomunadas";
+
+	// Código de resultado usado en métricas cuando la llamada falla por transporte
+	private static final String TRANSPORT_FAILURE = "transporte";
+
 	@Inject
 	@CXFClient("validaCuentasMancomunadas")
-	private IValidarRequest _validarRequest;
+	IValidarRequest _validarRequest;
+
+	@Inject
+	AdaptiveConcurrencyLimiter _concurrencyLimiter;
+
+	@Inject
+	ValidationMetrics _metrics;
+
+	@Inject
+	BackendHedgingPolicy _hedgingPolicy;
+
+	@Inject
+	BackendEndpointBalancer _endpointBalancer;
+
+	@Inject
+	BackendRetryBudget _retryBudget;
+
+	@Inject
+	StaleValidationStore _staleValidationStore;
+
+	@Inject
+	@VirtualThreads
+	ExecutorService _virtualThreadExecutor;
+
+	@ConfigProperty(name = "validation.backend.invocation-mode", defaultValue = "blocking")
+	BackendInvocationMode invocationMode = BackendInvocationMode.BLOCKING;
+
+	@PostConstruct
+	void init() {
+		// Cada llamada puede ir a un endpoint distinto; la dirección no se comparte entre hilos
+		if (_endpointBalancer.isEnabled()) {
+			SoapRequestContext.useThreadLocalContext(_validarRequest);
+		}
+	}
 
 	@Override
-	@Retry(maxRetries = 3, delay = 500, retryOn = {
-			RuntimeException.class
+	@Retry(maxRetries = 3, delay = 200, jitter = 100, retryOn = {
+			BackendTransientException.class
+	}, abortOn = RetryBudgetExhaustedException.class)
+	@ExponentialBackoff(factor = 2, maxDelay = 2000)
+	@BeforeRetry(BackendRetryHandler.class)
+	// Un reintento sin presupuesto no llama al backend, por lo que no cuenta para el circuit breaker
+	@CircuitBreaker(requestVolumeThreshold = 4, failureRatio = 0.5, delay = 1000, skipOn = {
+			BackendOverloadedException.class, BackendBusinessException.class, RetryBudgetExhaustedException.class
 	})
-	@CircuitBreaker(requestVolumeThreshold = 4, failureRatio = 0.5, delay = 1000)
+	@CircuitBreakerName(CIRCUIT_BREAKER_NAME)
 	public Uni<ResponseValidatesJointAccountsDto> validateAccounts(RequestDto request,
 			MultivaluedMap<String, String> headers)
 			throws JsonProcessingException {
 
+		// Reintento sin presupuesto: se propaga la falla original sin llamar al backend
+		Throwable deniedRetry = _retryBudget.takeDeniedRetry(request);
+		if (deniedRetry != null) {
+			return Uni.createFrom().failure(
+					new RetryBudgetExhaustedException(deniedRetry.getMessage(), deniedRetry.getCause()));
+		}
+
 		// Construyendo el request para el backend soap
 		ValidarRequest validarRequest = new ValidarRequest();
 
@@ -55,30 +132,338 @@ public class ValidatesJointAccountsService implements IValidatesJointAccountsSer
 		validarRequest.setCuentaOrigen(request.originAccount());
 		validarRequest.setCuentaDestino(request.destinyAccount());
 
-		Log.infov("Soap Request, cuenta origen: {0}, cuenta destino: {1}", request.originAccount().toString(),
-				request.destinyAccount().toString());
+		// Las cuentas se enmascaran y el evento solo se construye con el nivel habilitado
+		if (Log.isInfoEnabled()) {
+			Log.info(JsonLogEncoder.begin("Soap Request")
+					.field("sessionId", headers.getFirst("sessionId"))
+					.maskedField("cuentaOrigen", request.originAccount())
+					.maskedField("cuentaDestino", request.destinyAccount())
+					.end());
+		}
+
+		_retryBudget.onAttempt();
+		return hedgedBackendCall(validarRequest)
+				.onItem().transform(soapResponse -> {
+					_metrics.recordOutcome(soapResponse.getErrorCode(), validarRequest.getChannel(),
+							validarRequest.getOperationName());
+
+					// Rechazo de negocio: no se reintenta ni cuenta para el circuit breaker
+					if (!"000".equals(soapResponse.getErrorCode())) {
+						throw new BackendBusinessException(soapResponse.getErrorCode(),
+								soapResponse.getErrorMessage());
+					}
+
+					try {
+						long decodeStart = System.nanoTime();
+						ResponseValidatesJointAccountsDto response = new ResponseValidatesJointAccountsDto(
+								ValidProductXmlDecoder.isValidProduct(soapResponse.getXMLReresponse()));
+						_metrics.recordStage(Stage.DECODIFICACION, decodeStart);
+
+						return response;
+
+					} catch (Exception e) {
+						throw new BackendResponseException(e.getMessage(), e);
+					}
+				})
+				// Se guarda aquí, debajo del caché y la coalescencia, para que solo cuenten las respuestas del backend
+				.onItem().invoke(response -> _staleValidationStore.record(request, headers, response))
+				// Las fallas de transporte se clasifican en tiempo agotado o transitorias
+				.onFailure(failure -> !(failure instanceof ExpectedException))
+				.transform(this::classifyTransportFailure);
+	}
+
+	/**
+	 * Convierte una falla de transporte en {@link BackendTimeoutException} o
+	 * {@link BackendTransientException}; esta última se reintenta si el
+	 * presupuesto de reintentos lo permite. Se conserva el mensaje original y
+	 * la causa.
+	 */
+	private RuntimeException classifyTransportFailure(Throwable failure) {
+		if (BackendFailures.isTimeout(failure)) {
+			return new BackendTimeoutException(failure.getMessage(), failure);
+		}
+		return new BackendTransientException(failure.getMessage(), failure);
+	}
+
+	/**
+	 * Invoca el backend y, si la política de cobertura está activa y la llamada
+	 * no responde dentro del umbral, envía una segunda solicitud idéntica y toma
+	 * la primera respuesta. La llamada que pierde se cancela.
+	 */
+	private Uni<ServiceResponse> hedgedBackendCall(ValidarRequest validarRequest) {
+		if (!_hedgingPolicy.isEnabled()) {
+			return limitedBackendCall(validarRequest);
+		}
+
+		_hedgingPolicy.onPrimaryCall();
+		return Uni.createFrom().emitter(emitter -> new HedgedCall(validarRequest, emitter).start());
+	}
+
+	/**
+	 * Invoca el backend solo si el limitador de concurrencia lo permite; en caso
+	 * contrario falla de inmediato con {@link BackendOverloadedException}.
+	 */
+	private Uni<ServiceResponse> limitedBackendCall(ValidarRequest validarRequest) {
+		return Uni.createFrom().deferred(() -> {
+			if (!_concurrencyLimiter.tryAcquire()) {
+				return Uni.createFrom().failure(new BackendOverloadedException(
+						"Límite de llamadas concurrentes al backend alcanzado", _concurrencyLimiter.getRetryAfter()));
+			}
+
+			LimiterPermit permit = new LimiterPermit();
+			return invokeBackend(validarRequest, permit)
+					.onTermination().invoke((soapResponse, failure, cancelled) -> {
+						// Una cancelación (p. ej. la llamada que pierde contra la cobertura) no es una muestra
+						if (cancelled) {
+							permit.cancel();
+							return;
+						}
+
+						permit.release(failure != null);
+						_metrics.recordStage(Stage.BACKEND_SOAP, permit.start);
+						// Solo las respuestas cuentan para el percentil: las fallas rápidas adelantarían
+						// las coberturas justo cuando el backend no está sano
+						if (failure == null) {
+							_hedgingPolicy.recordLatency(System.nanoTime() - permit.start);
+						} else {
+							_metrics.recordOutcome(TRANSPORT_FAILURE, validarRequest.getChannel(),
+									validarRequest.getOperationName());
+						}
+					});
+		});
+	}
+
+	/**
+	 * Elige el endpoint del backend cuando hay varios configurados e invoca la
+	 * llamada contra él, informando el resultado al balanceador.
+	 */
+	private Uni<ServiceResponse> invokeBackend(ValidarRequest validarRequest, LimiterPermit permit) {
+		if (!_endpointBalancer.isEnabled()) {
+			return invokeBackend(validarRequest, null, permit);
+		}
+
+		return Uni.createFrom().deferred(() -> {
+			BackendEndpointBalancer.Endpoint endpoint = _endpointBalancer.select();
+			long start = System.nanoTime();
+			return invokeBackend(validarRequest, endpoint.getUrl(), permit)
+					.onTermination().invoke((soapResponse, failure, cancelled) -> {
+						// Una llamada cancelada libera el endpoint sin contar como muestra
+						if (cancelled) {
+							_endpointBalancer.cancel(endpoint);
+						} else {
+							_endpointBalancer.release(endpoint, System.nanoTime() - start, failure != null);
+						}
+					});
+		});
+	}
+
+	/**
+	 * Invoca el backend SOAP según el modo configurado en
+	 * {@code validation.backend.invocation-mode}.
+	 *
+	 * @param address La URL del endpoint, o {@code null} para la configurada.
+	 * @param permit  El lugar reservado en el limitador para esta llamada.
+	 */
+	private Uni<ServiceResponse> invokeBackend(ValidarRequest validarRequest, String address,
+			LimiterPermit permit) {
+		if (invocationMode == BackendInvocationMode.ASYNC) {
+			return SoapAsyncInvoker.validar(_validarRequest, validarRequest, address);
+		}
+
+		// En modo hilo virtual la decodificación continúa en el mismo hilo virtual
+		Executor executor = invocationMode == BackendInvocationMode.VIRTUAL_THREAD ? _virtualThreadExecutor
+				: Infrastructure.getDefaultExecutor();
 
 		return Uni.createFrom().item(() -> {
+			// Cancelada antes de empezar: no se envía al backend
+			if (!permit.enterBlockingCall()) {
+				throw new CancellationException();
+			}
+
+			// La cancelación no detiene un hilo bloqueado en validar; el lugar se libera al retornar
+			boolean dropped = true;
 			try {
-				ServiceResponse soapResponse = _validarRequest.validar(validarRequest);
+				if (address != null) {
+					SoapRequestContext.setAddress(_validarRequest, address);
+				}
+				ServiceResponse response = _validarRequest.validar(validarRequest);
+				dropped = false;
+				return response;
+			} finally {
+				permit.release(dropped);
+			}
+		}).runSubscriptionOn(executor);
+	}
+
+	/**
+	 * Lugar reservado en el limitador de concurrencia para una llamada al
+	 * backend. Se libera una sola vez: al terminar la llamada, o al cancelarse
+	 * si ningún hilo está bloqueado en ella; si lo está, el lugar sigue ocupado
+	 * hasta que ese hilo retorna del backend.
+	 */
+	private final class LimiterPermit {
+
+		private static final int IDLE = 0;
+
+		private static final int BLOCKED = 1;
+
+		private static final int RELEASED = 2;
+
+		private final long start = System.nanoTime();
+
+		private final AtomicInteger state = new AtomicInteger(IDLE);
+
+		/**
+		 * Marca el inicio de la llamada bloqueante.
+		 *
+		 * @return {@code false} si la llamada ya se canceló.
+		 */
+		boolean enterBlockingCall() {
+			return state.compareAndSet(IDLE, BLOCKED);
+		}
+
+		/**
+		 * Libera el lugar registrando la latencia observada como muestra.
+		 */
+		void release(boolean dropped) {
+			if (state.getAndSet(RELEASED) != RELEASED) {
+				_concurrencyLimiter.release(System.nanoTime() - start, dropped);
+			}
+		}
+
+		/**
+		 * Libera el lugar sin muestra, salvo que un hilo siga bloqueado en la
+		 * llamada.
+		 */
+		void cancel() {
+			if (state.compareAndSet(IDLE, RELEASED)) {
+				_concurrencyLimiter.abandon();
+			}
+		}
+	}
+
+	/**
+	 * Carrera entre la llamada original y su cobertura. Gana la primera
+	 * respuesta y la otra llamada se cancela. Una falla solo decide el
+	 * resultado si no hay cobertura en curso, o si la otra llamada también
+	 * falló; en ese caso se propaga la falla de la llamada original.
+	 */
+	private final class HedgedCall {
+
+		private final ValidarRequest validarRequest;
+
+		private final UniEmitter<? super ServiceResponse> emitter;
+
+		private Cancellable timer;
+
+		private Cancellable primary;
+
+		private Cancellable hedge;
+
+		private boolean hedgeInFlight;
+
+		private Throwable primaryFailure;
 
-				if ("000".equals(soapResponse.getErrorCode())) {
-					XmlMapper xmlMapper = new XmlMapper();
-					ResponseWsDto responseWsDto = xmlMapper.readValue(soapResponse.getXMLReresponse(),
-							ResponseWsDto.class);
+		private boolean finished;
 
-					ResponseValidatesJointAccountsDto response = new ResponseValidatesJointAccountsDto(
-							"TRUE".equals(responseWsDto.getValidProduct().getFirst().getProductIsValid()));
+		HedgedCall(ValidarRequest validarRequest, UniEmitter<? super ServiceResponse> emitter) {
+			this.validarRequest = validarRequest;
+			this.emitter = emitter;
+		}
 
-					return response;
+		void start() {
+			emitter.onTermination(this::cancelPending);
 
-				} else {
-					throw new IllegalArgumentException(soapResponse.getErrorMessage());
+			Cancellable hedgeTimer = Uni.createFrom().voidItem()
+					.onItem().delayIt().by(_hedgingPolicy.getHedgeDelay())
+					.subscribe().with(ignored -> sendHedge());
+			Cancellable primaryCall = limitedBackendCall(validarRequest)
+					.subscribe().with(response -> succeed(response, false), this::onPrimaryFailure);
+
+			synchronized (this) {
+				timer = hedgeTimer;
+				primary = primaryCall;
+				if (!finished) {
+					return;
+				}
+			}
+			// Terminó antes de guardar las suscripciones
+			cancelPending();
+		}
+
+		private void sendHedge() {
+			synchronized (this) {
+				if (finished || !_hedgingPolicy.tryAcquireHedge()) {
+					return;
+				}
+				hedgeInFlight = true;
+			}
+
+			Cancellable hedgeCall = limitedBackendCall(validarRequest)
+					.subscribe().with(response -> succeed(response, true), this::onHedgeFailure);
+
+			synchronized (this) {
+				hedge = hedgeCall;
+				if (!finished) {
+					return;
+				}
+			}
+			hedgeCall.cancel();
+		}
+
+		private void succeed(ServiceResponse response, boolean fromHedge) {
+			synchronized (this) {
+				if (finished) {
+					return;
 				}
+				finished = true;
+			}
+			if (fromHedge) {
+				_hedgingPolicy.recordWin();
+			}
+			emitter.complete(response);
+		}
+
+		private void onPrimaryFailure(Throwable failure) {
+			synchronized (this) {
+				if (finished) {
+					return;
+				}
+				// Con la cobertura en curso se espera su resultado
+				if (hedgeInFlight) {
+					primaryFailure = failure;
+					return;
+				}
+				finished = true;
+			}
+			emitter.fail(failure);
+		}
 
-			} catch (Exception e) {
-				throw new RuntimeException(e.getMessage());
+		private void onHedgeFailure(Throwable failure) {
+			Throwable decided;
+			synchronized (this) {
+				hedgeInFlight = false;
+				// Si la original sigue en curso, ella decide el resultado
+				if (finished || primaryFailure == null) {
+					return;
+				}
+				finished = true;
+				decided = primaryFailure;
+			}
+			emitter.fail(decided);
+		}
+
+		private void cancelPending() {
+			Cancellable[] pending;
+			synchronized (this) {
+				finished = true;
+				pending = new Cancellable[] { timer, primary, hedge };
+			}
+			for (Cancellable cancellable : pending) {
+				if (cancellable != null) {
+					cancellable.cancel();
+				}
 			}
-		}).runSubscriptionOn(Infrastructure.getDefaultExecutor());
+		}
 	}
 }
@@ -0,0 +1,133 @@
+package com.banreservas.services.implementations;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.banreservas.utils.BoundedTagValues;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Métricas propias del flujo de validación: duración de cada etapa con
+ * histogramas de percentiles, resultados del backend por código de error,
+ * consumidor y operación, reintentos y cambios de estado del circuit breaker.
+ *
+ * Las etiquetas que provienen de encabezados se acotan con
+ * {@link BoundedTagValues} para limitar la cardinalidad.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class ValidationMetrics {
+
+    /**
+     * Etapas medidas del flujo de validación.
+     */
+    public enum Stage {
+        AUTENTICACION("autenticacion"),
+        ENCABEZADOS("encabezados"),
+        SERVICIO("servicio"),
+        BACKEND_SOAP("backend-soap"),
+        DECODIFICACION("decodificacion");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    public static final String STAGE_TIMER = "validaciones.etapa";
+
+    public static final String OUTCOME_COUNTER = "validaciones.backend.resultados";
+
+    public static final String RETRY_COUNTER = "validaciones.backend.reintentos";
+
+    public static final String CIRCUIT_BREAKER_COUNTER = "validaciones.backend.circuit-breaker.cambios";
+
+    private final MeterRegistry registry;
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+
+    private final BoundedTagValues errorCodes;
+
+    private final BoundedTagValues consumers;
+
+    private final BoundedTagValues operations;
+
+    private final Counter retries;
+
+    @Inject
+    public ValidationMetrics(MeterRegistry registry,
+            @ConfigProperty(name = "validation.metrics.max-tag-values", defaultValue = "50") int maxTagValues) {
+        this.registry = registry;
+        this.errorCodes = new BoundedTagValues(maxTagValues);
+        this.consumers = new BoundedTagValues(maxTagValues);
+        this.operations = new BoundedTagValues(maxTagValues);
+
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder(STAGE_TIMER)
+                    .description("Duración de cada etapa del flujo de validación")
+                    .tag("etapa", stage.tag())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        retries = Counter.builder(RETRY_COUNTER)
+                .description("Reintentos de llamadas al backend SOAP")
+                .register(registry);
+    }
+
+    /**
+     * Registra la duración de una etapa iniciada en {@code startNanos}.
+     *
+     * @param stage      La etapa medida.
+     * @param startNanos El valor de {@link System#nanoTime()} al iniciar.
+     */
+    public void recordStage(Stage stage, long startNanos) {
+        stageTimers.get(stage).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Cuenta un resultado del backend.
+     *
+     * @param errorCode El código devuelto por el backend, o el tipo de falla.
+     * @param consumer  El encabezado {@code id_consumidor}.
+     * @param operation El encabezado {@code operacion}.
+     */
+    public void recordOutcome(String errorCode, String consumer, String operation) {
+        registry.counter(OUTCOME_COUNTER,
+                "errorCode", errorCodes.bound(errorCode),
+                "consumidor", consumers.bound(consumer),
+                "operacion", operations.bound(operation))
+                .increment();
+    }
+
+    /**
+     * Cuenta un reintento de la llamada al backend.
+     */
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    /**
+     * Cuenta un cambio de estado del circuit breaker.
+     *
+     * @param state El nuevo estado.
+     */
+    public void recordCircuitBreakerState(String state) {
+        registry.counter(CIRCUIT_BREAKER_COUNTER, "estado", state).increment();
+    }
+}
@@ -0,0 +1,137 @@
+package com.banreservas.services.implementations;
+
+import java.time.Duration;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.utils.AccountPairKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Cache en memoria de los resultados de validación por par de cuentas.
+ * Los resultados positivos y negativos tienen tiempos de vida independientes
+ * y el tamaño está acotado. Solo se almacenan respuestas exitosas ("000") del
+ * backend; los errores nunca llegan a esta cache.
+ *
+ * Las métricas de aciertos, fallos y desalojos se publican en el registro de
+ * Micrometer con el nombre {@value #CACHE_NAME}.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class ValidationResultCache {
+
+    public static final String CACHE_NAME = "validaciones-cuentas-mancomunadas";
+
+    @ConfigProperty(name = "validation.cache.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "validation.cache.max-size", defaultValue = "10000")
+    long maxSize;
+
+    @ConfigProperty(name = "validation.cache.positive-ttl", defaultValue = "PT5M")
+    Duration positiveTtl;
+
+    @ConfigProperty(name = "validation.cache.negative-ttl", defaultValue = "PT1M")
+    Duration negativeTtl;
+
+    @Inject
+    MeterRegistry registry;
+
+    // Fuente de tiempo de la expiración; las pruebas la sustituyen para avanzar el reloj
+    Ticker ticker = Ticker.systemTicker();
+
+    private Cache<AccountPairKey, ResponseValidatesJointAccountsDto> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ResultExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Indica si la cache está habilitada por configuración.
+     *
+     * @return {@code true} si la cache está habilitada.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Obtiene el resultado vigente para el par de cuentas.
+     *
+     * @param key El par de cuentas.
+     * @return El resultado almacenado, o {@code null} si no existe o expiró.
+     */
+    public ResponseValidatesJointAccountsDto get(AccountPairKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Almacena un resultado exitoso del backend.
+     *
+     * @param key    El par de cuentas.
+     * @param result El resultado devuelto por el backend.
+     */
+    public void put(AccountPairKey key, ResponseValidatesJointAccountsDto result) {
+        cache.put(key, result);
+    }
+
+    /**
+     * Elimina el resultado almacenado para un par de cuentas.
+     *
+     * @param key El par de cuentas.
+     */
+    public void invalidate(AccountPairKey key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * Elimina todos los resultados almacenados.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Política de expiración por entrada: positivos y negativos tienen TTL
+     * propio; las lecturas no extienden la vida de la entrada.
+     */
+    private final class ResultExpiry implements Expiry<AccountPairKey, ResponseValidatesJointAccountsDto> {
+
+        @Override
+        public long expireAfterCreate(AccountPairKey key, ResponseValidatesJointAccountsDto value, long currentTime) {
+            return (value.isValidProduct() ? positiveTtl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(AccountPairKey key, ResponseValidatesJointAccountsDto value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(AccountPairKey key, ResponseValidatesJointAccountsDto value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.banreservas.services.implementations;
+
+import java.time.Duration;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.banreservas.utils.defaults.BackendInvocationMode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Detecta hilos virtuales anclados (pinned) a su hilo portador cuando el
+ * backend se invoca en modo {@link BackendInvocationMode#VIRTUAL_THREAD}, por
+ * ejemplo por secciones {@code synchronized} dentro de CXF o JAXB.
+ *
+ * Escucha el evento JFR {@code jdk.VirtualThreadPinned}, cuenta cada
+ * ocurrencia en la métrica {@value #PINNED_METRIC} y registra el marco
+ * responsable.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@ApplicationScoped
+public class VirtualThreadPinningMonitor {
+
+    public static final String PINNED_METRIC = "validaciones.hilos-virtuales.anclados";
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @ConfigProperty(name = "validation.backend.invocation-mode", defaultValue = "blocking")
+    BackendInvocationMode invocationMode;
+
+    @ConfigProperty(name = "validation.virtual-threads.pinned-threshold", defaultValue = "PT0.02S")
+    Duration pinnedThreshold;
+
+    @Inject
+    MeterRegistry registry;
+
+    private RecordingStream recording;
+
+    void onStart(@Observes StartupEvent event) {
+        if (invocationMode != BackendInvocationMode.VIRTUAL_THREAD) {
+            return;
+        }
+
+        Counter pinned = Counter.builder(PINNED_METRIC)
+                .description("Hilos virtuales anclados a su hilo portador por más del umbral configurado")
+                .register(registry);
+
+        try {
+            recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(pinnedThreshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, pinnedEvent -> {
+                pinned.increment();
+                Log.warnv("Hilo virtual anclado por {0} ms en {1}", pinnedEvent.getDuration().toMillis(),
+                        topFrame(pinnedEvent));
+            });
+            recording.startAsync();
+        } catch (RuntimeException e) {
+            // JFR puede no estar disponible, por ejemplo en imagen nativa
+            Log.warnv("No se pudo iniciar la detección de hilos virtuales anclados: {0}", e.getMessage());
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "desconocido";
+        }
+        // Primer marco fuera del JDK: normalmente la sección synchronized responsable
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "desconocido";
+    }
+}
@@ -0,0 +1,67 @@
+package com.banreservas.utils;
+
+/**
+ * Enmascara números de cuenta para logs y auditoría, dejando visibles solo
+ * los últimos {@value #VISIBLE_DIGITS} caracteres.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class AccountMasker {
+
+    // Caracteres visibles al final de la cuenta
+    public static final int VISIBLE_DIGITS = 4;
+
+    public static final char MASK = '*';
+
+    /**
+     * Devuelve la cuenta enmascarada.
+     *
+     * @param account La cuenta.
+     * @return La cuenta con todos los caracteres salvo los últimos
+     *         {@value #VISIBLE_DIGITS} reemplazados, o {@code null}.
+     */
+    public static String mask(String account) {
+        if (account == null) {
+            return null;
+        }
+        StringBuilder masked = new StringBuilder(account.length());
+        appendMasked(masked, account);
+        return masked.toString();
+    }
+
+    /**
+     * Agrega la cuenta enmascarada al {@link StringBuilder} sin crear una
+     * cadena intermedia.
+     *
+     * @param target  El destino.
+     * @param account La cuenta.
+     */
+    public static void appendMasked(StringBuilder target, CharSequence account) {
+        int visibleFrom = visibleFrom(account);
+        for (int i = 0; i < account.length(); i++) {
+            target.append(i < visibleFrom ? MASK : account.charAt(i));
+        }
+    }
+
+    /**
+     * Devuelve la posición del primer carácter visible de la cuenta.
+     *
+     * @param account La cuenta.
+     * @return La posición; igual al largo si la cuenta se enmascara completa.
+     */
+    public static int visibleFrom(CharSequence account) {
+        // Las cuentas muy cortas se enmascaran completas
+        if (account.length() <= VISIBLE_DIGITS) {
+            return account.length();
+        }
+        return account.length() - VISIBLE_DIGITS;
+    }
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private AccountMasker() {
+    }
+}
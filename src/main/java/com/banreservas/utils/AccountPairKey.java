@@ -0,0 +1,27 @@
+package com.banreservas.utils;
+
+import com.banreservas.dtos.inbound.RequestDto;
+
+/**
+ * Llave que identifica una validación por el par de cuentas consultado.
+ * Se usa para agrupar, reutilizar y deduplicar resultados del backend.
+ *
+ * @param originAccount  La cuenta origen.
+ * @param destinyAccount La cuenta destino.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public record AccountPairKey(String originAccount, String destinyAccount) {
+
+    /**
+     * Construye la llave a partir de la solicitud recibida.
+     *
+     * @param request La solicitud con el par de cuentas.
+     * @return La llave del par de cuentas.
+     */
+    public static AccountPairKey of(RequestDto request) {
+        return new AccountPairKey(request.originAccount(), request.destinyAccount());
+    }
+}
@@ -0,0 +1,49 @@
+package com.banreservas.utils;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+import io.netty.channel.ConnectTimeoutException;
+
+/**
+ * Clasificación de las fallas de transporte del backend SOAP.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class BackendFailures {
+
+    // Tiempo agotado del cliente HTTP de Vert.x; es una clase interna, por lo que se compara por nombre
+    static final String VERTX_TIMEOUT_CLASS = "io.vertx.core.impl.NoStackTraceTimeoutException";
+
+    /**
+     * Indica si la falla, o alguna de sus causas, es un tiempo de espera
+     * agotado: {@link SocketTimeoutException} y {@link TimeoutException} del
+     * JDK, {@link ConnectTimeoutException} de Netty y el tiempo agotado de
+     * Vert.x ({@value #VERTX_TIMEOUT_CLASS}).
+     *
+     * @param failure La falla de la llamada.
+     * @return {@code true} si se agotó el tiempo de espera.
+     */
+    public static boolean isTimeout(Throwable failure) {
+        for (Throwable current = failure; current != null; current = current.getCause()) {
+            if (current instanceof SocketTimeoutException
+                    || current instanceof TimeoutException
+                    || current instanceof ConnectTimeoutException
+                    || VERTX_TIMEOUT_CLASS.equals(current.getClass().getName())) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private BackendFailures() {
+    }
+}
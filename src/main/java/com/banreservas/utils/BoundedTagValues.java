@@ -0,0 +1,57 @@
+package com.banreservas.utils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conjunto acotado de valores permitidos para una etiqueta de métricas.
+ * Los primeros valores distintos se conservan tal cual; cuando se alcanza el
+ * máximo, cualquier valor nuevo se agrupa bajo {@value #OTHER}. Evita que los
+ * encabezados enviados por los consumidores disparen la cardinalidad del
+ * registro de métricas.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class BoundedTagValues {
+
+    public static final String OTHER = "otro";
+
+    public static final String NONE = "ninguno";
+
+    // Largo máximo de un valor de etiqueta
+    private static final int MAX_LENGTH = 64;
+
+    private final Set<String> values = ConcurrentHashMap.newKeySet();
+
+    private final int maxValues;
+
+    public BoundedTagValues(int maxValues) {
+        this.maxValues = maxValues;
+    }
+
+    /**
+     * Devuelve el valor a usar como etiqueta.
+     *
+     * @param value El valor recibido.
+     * @return El mismo valor si está permitido, o {@value #OTHER}.
+     */
+    public String bound(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        if (value.length() > MAX_LENGTH) {
+            return OTHER;
+        }
+        if (values.contains(value)) {
+            return value;
+        }
+        // Bajo concurrencia el conjunto puede exceder el máximo por unos pocos valores
+        if (values.size() < maxValues) {
+            values.add(value);
+            return value;
+        }
+        return OTHER;
+    }
+}
@@ -12,7 +12,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * @author Ing. Victor Diaz - vjdiaz@banreservas.com
  * @since 06-02-2025
  * @version 1.0
+ * @deprecated Usar {@link JsonLogEncoder}, que escribe sobre un buffer
+ *             reutilizable y enmascara las cuentas.
  */
+@Deprecated
 public class BuildJsonConstructLogAppender {
 
     // Instancia de ObjectMapper para realizar la conversión de objetos a JSON.
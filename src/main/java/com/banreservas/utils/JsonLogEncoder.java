@@ -0,0 +1,187 @@
+package com.banreservas.utils;
+
+/**
+ * Codifica eventos de log como una línea JSON plana sobre un
+ * {@link StringBuilder} reutilizable por hilo, sin {@code ObjectMapper} ni
+ * cadenas intermedias: la única asignación por evento es la cadena final.
+ * Los campos de cuenta se enmascaran al escribirlos con
+ * {@link Encoder#maskedField(String, CharSequence)}.
+ *
+ * Los hilos virtuales no reutilizan el buffer: cada uno vive lo que dura una
+ * solicitud, así que un {@link ThreadLocal} solo agregaría su propia entrada.
+ * En ellos cada evento usa un codificador nuevo.
+ *
+ * Se debe invocar solo cuando el nivel de log está habilitado:
+ *
+ * <pre>
+ * if (Log.isInfoEnabled()) {
+ *     Log.info(JsonLogEncoder.begin("Soap Request")
+ *             .maskedField("cuentaOrigen", cuenta)
+ *             .end());
+ * }
+ * </pre>
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class JsonLogEncoder {
+
+    // Capacidad inicial del buffer de cada hilo
+    private static final int INITIAL_CAPACITY = 256;
+
+    // Un buffer que creció más que esto se descarta para no retener memoria
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<Encoder> ENCODER = ThreadLocal.withInitial(Encoder::new);
+
+    /**
+     * Inicia un evento en el buffer del hilo actual con el campo
+     * {@code mensaje}. El evento debe terminarse con {@link Encoder#end()}
+     * antes de iniciar otro en el mismo hilo.
+     *
+     * @param message El mensaje del evento.
+     * @return El codificador del hilo actual.
+     */
+    public static Encoder begin(String message) {
+        Encoder encoder = Thread.currentThread().isVirtual() ? new Encoder() : ENCODER.get();
+        encoder.reset();
+        return encoder.field("mensaje", message);
+    }
+
+    /**
+     * Codificador de un evento. Solo es válido en el hilo que lo obtuvo.
+     */
+    public static final class Encoder {
+
+        private StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+
+        private boolean first;
+
+        private Encoder() {
+        }
+
+        private void reset() {
+            if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+                buffer = new StringBuilder(INITIAL_CAPACITY);
+            }
+            buffer.setLength(0);
+            buffer.append('{');
+            first = true;
+        }
+
+        /**
+         * Agrega un campo de texto; {@code null} se escribe como {@code null}.
+         */
+        public Encoder field(String name, CharSequence value) {
+            name(name);
+            if (value == null) {
+                buffer.append("null");
+            } else {
+                quoted(value);
+            }
+            return this;
+        }
+
+        /**
+         * Agrega un campo de cuenta dejando visibles solo sus últimos
+         * {@value AccountMasker#VISIBLE_DIGITS} caracteres.
+         */
+        public Encoder maskedField(String name, CharSequence account) {
+            name(name);
+            if (account == null) {
+                buffer.append("null");
+            } else {
+                // Los caracteres visibles vienen de la solicitud y se escapan como cualquier texto
+                int visibleFrom = AccountMasker.visibleFrom(account);
+                buffer.append('"');
+                for (int i = 0; i < visibleFrom; i++) {
+                    buffer.append(AccountMasker.MASK);
+                }
+                escaped(account, visibleFrom);
+                buffer.append('"');
+            }
+            return this;
+        }
+
+        /**
+         * Agrega un campo numérico.
+         */
+        public Encoder field(String name, long value) {
+            name(name);
+            buffer.append(value);
+            return this;
+        }
+
+        /**
+         * Agrega un campo numérico con decimales.
+         */
+        public Encoder field(String name, double value) {
+            name(name);
+            buffer.append(value);
+            return this;
+        }
+
+        /**
+         * Agrega un campo booleano; {@code null} se escribe como {@code null}.
+         */
+        public Encoder field(String name, Boolean value) {
+            name(name);
+            buffer.append(value);
+            return this;
+        }
+
+        /**
+         * Cierra el evento.
+         *
+         * @return La línea JSON.
+         */
+        public String end() {
+            buffer.append('}');
+            return buffer.toString();
+        }
+
+        private void name(String name) {
+            if (!first) {
+                buffer.append(',');
+            }
+            first = false;
+            quoted(name);
+            buffer.append(':');
+        }
+
+        private void quoted(CharSequence value) {
+            buffer.append('"');
+            escaped(value, 0);
+            buffer.append('"');
+        }
+
+        private void escaped(CharSequence value, int from) {
+            for (int i = from; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> buffer.append("\\\"");
+                    case '\\' -> buffer.append("\\\\");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    case '\t' -> buffer.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            buffer.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                        } else {
+                            buffer.append(c);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private JsonLogEncoder() {
+    }
+}
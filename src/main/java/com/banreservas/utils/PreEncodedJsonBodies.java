@@ -0,0 +1,84 @@
+package com.banreservas.utils;
+
+import java.util.Map;
+
+import com.banreservas.dtos.inbound.ResponseDto;
+import com.banreservas.dtos.inbound.ResponseHeaderDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.utils.defaults.CodeMessages;
+import com.banreservas.utils.defaults.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Cuerpos JSON de forma fija serializados una sola vez: la respuesta exitosa
+ * de validación con {@code isValidProduct} verdadero o falso y los
+ * {@link ErrorResponse} con los mensajes de {@link CodeMessages}.
+ *
+ * Se serializan con el mismo {@link ObjectMapper} que usa la aplicación, por
+ * lo que el resultado es idéntico byte a byte al de Jackson. Los arreglos no
+ * se exponen fuera del escritor de respuestas y no deben modificarse.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class PreEncodedJsonBodies {
+
+    private final byte[] validProduct;
+
+    private final byte[] invalidProduct;
+
+    private final Map<String, byte[]> errors;
+
+    public PreEncodedJsonBodies(ObjectMapper objectMapper) throws JsonProcessingException {
+        validProduct = objectMapper.writeValueAsBytes(success(true));
+        invalidProduct = objectMapper.writeValueAsBytes(success(false));
+        errors = Map.of(
+                CodeMessages.MESSAGE_BAD_REQUEST, encodeError(objectMapper, CodeMessages.MESSAGE_BAD_REQUEST),
+                CodeMessages.MESSAGE_UNAUTHORIZED, encodeError(objectMapper, CodeMessages.MESSAGE_UNAUTHORIZED),
+                CodeMessages.MESSAGE_FORBIDDEN, encodeError(objectMapper, CodeMessages.MESSAGE_FORBIDDEN),
+                CodeMessages.MESSAGE_NOT_FOUND, encodeError(objectMapper, CodeMessages.MESSAGE_NOT_FOUND),
+                CodeMessages.MESSAGE_INTERNAL_SERVER_ERROR,
+                encodeError(objectMapper, CodeMessages.MESSAGE_INTERNAL_SERVER_ERROR),
+                CodeMessages.MESSAGE_SERVICE_UNAVAILABLE,
+                encodeError(objectMapper, CodeMessages.MESSAGE_SERVICE_UNAVAILABLE));
+    }
+
+    /**
+     * Devuelve el cuerpo preserializado de la entidad, si tiene una de las
+     * formas fijas.
+     *
+     * @param entity La entidad de la respuesta.
+     * @return Los bytes del cuerpo, o {@code null} si debe serializarse con
+     *         Jackson.
+     */
+    public byte[] lookup(Object entity) {
+        if (entity instanceof ResponseDto response) {
+            return lookupSuccess(response);
+        }
+        if (entity instanceof ErrorResponse error && error.getMessage() != null) {
+            return errors.get(error.getMessage());
+        }
+        return null;
+    }
+
+    private byte[] lookupSuccess(ResponseDto response) {
+        ResponseHeaderDto header = response.getHeader();
+        ResponseValidatesJointAccountsDto body = response.getBody();
+        if (header == null || body == null || header.getResponseCode() != 200
+                || !CodeMessages.MESSAGE_SUCCESS.equals(header.getResponseMessage())) {
+            return null;
+        }
+        return body.isValidProduct() ? validProduct : invalidProduct;
+    }
+
+    private static ResponseDto success(boolean isValidProduct) {
+        return new ResponseDto(new ResponseHeaderDto(200, CodeMessages.MESSAGE_SUCCESS),
+                new ResponseValidatesJointAccountsDto(isValidProduct));
+    }
+
+    private static byte[] encodeError(ObjectMapper objectMapper, String message) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new ErrorResponse(message));
+    }
+}
@@ -0,0 +1,74 @@
+package com.banreservas.utils;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import com.brrd.service.services.IValidarRequest;
+import com.brrd.service.services.ServiceResponse;
+import com.brrd.service.services.ValidarRequest;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Adaptador de la variante asíncrona JAX-WS de {@code Validar} (generada con
+ * {@code -asyncMethods}) a {@link Uni}. La respuesta llega por el callback del
+ * conduit HTTP asíncrono de CXF, por lo que ningún hilo queda bloqueado
+ * esperando al backend.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class SoapAsyncInvoker {
+
+    /**
+     * Invoca {@code validarAsync} y expone el resultado como {@link Uni}.
+     * Si el suscriptor cancela antes de la respuesta, se cancela la invocación.
+     *
+     * @param port    El cliente CXF del backend.
+     * @param request La solicitud SOAP.
+     * @return Un {@link Uni} con la respuesta del backend o su falla.
+     */
+    public static Uni<ServiceResponse> validar(IValidarRequest port, ValidarRequest request) {
+        return validar(port, request, null);
+    }
+
+    /**
+     * Igual que {@link #validar(IValidarRequest, ValidarRequest)} pero contra
+     * la dirección indicada. La dirección se fija en el contexto de solicitud
+     * del hilo que envía la llamada.
+     *
+     * @param port    El cliente CXF del backend.
+     * @param request La solicitud SOAP.
+     * @param address La URL del endpoint, o {@code null} para la configurada.
+     * @return Un {@link Uni} con la respuesta del backend o su falla.
+     */
+    public static Uni<ServiceResponse> validar(IValidarRequest port, ValidarRequest request, String address) {
+        return Uni.createFrom().emitter(emitter -> {
+            if (address != null) {
+                SoapRequestContext.setAddress(port, address);
+            }
+            Future<?> invocation = port.validarAsync(request, response -> {
+                try {
+                    emitter.complete(response.get());
+                } catch (ExecutionException e) {
+                    emitter.fail(e.getCause() != null ? e.getCause() : e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    emitter.fail(e);
+                }
+            });
+            emitter.onTermination(() -> {
+                if (!invocation.isDone()) {
+                    invocation.cancel(true);
+                }
+            });
+        });
+    }
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private SoapAsyncInvoker() {
+    }
+}
@@ -0,0 +1,59 @@
+package com.banreservas.utils;
+
+import jakarta.xml.ws.BindingProvider;
+
+/**
+ * Utilidades sobre el contexto de solicitud JAX-WS del cliente CXF.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class SoapRequestContext {
+
+    // Propiedad de CXF que hace el contexto de solicitud local a cada hilo
+    private static final String THREAD_LOCAL_REQUEST_CONTEXT = "thread.local.request.context";
+
+    /**
+     * Hace que el contexto de solicitud del cliente sea local a cada hilo, de
+     * modo que la dirección fijada por una llamada no afecte a las demás.
+     *
+     * @param port El cliente CXF.
+     */
+    public static void useThreadLocalContext(Object port) {
+        if (port instanceof BindingProvider bindingProvider) {
+            bindingProvider.getRequestContext().put(THREAD_LOCAL_REQUEST_CONTEXT, "true");
+        }
+    }
+
+    /**
+     * Fuerza la creación del cliente CXF, que de otro modo ocurre en la
+     * primera llamada: modelo de servicio del WSDL, contexto JAXB del binding y
+     * conduit HTTP.
+     *
+     * @param port El cliente CXF.
+     */
+    public static void initialize(Object port) {
+        if (port instanceof BindingProvider bindingProvider) {
+            bindingProvider.getRequestContext();
+        }
+    }
+
+    /**
+     * Fija la dirección del endpoint para las llamadas del hilo actual.
+     *
+     * @param port    El cliente CXF.
+     * @param address La URL del endpoint.
+     */
+    public static void setAddress(Object port, String address) {
+        if (port instanceof BindingProvider bindingProvider) {
+            bindingProvider.getRequestContext().put(BindingProvider.ENDPOINT_ADDRESS_PROPERTY, address);
+        }
+    }
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private SoapRequestContext() {
+    }
+}
@@ -0,0 +1,149 @@
+package com.banreservas.utils;
+
+import java.io.StringReader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.banreservas.dtos.outbound.ResponseWsDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+
+/**
+ * Decodificador del campo {@code XMLReresponse} devuelto por el backend SOAP.
+ * Recorre el documento con StAX y se detiene en el primer
+ * {@code ProductoValido/Resultado}, evitando crear un {@link XmlMapper} y
+ * enlazar todo el documento en cada solicitud.
+ *
+ * Si el documento no tiene la forma esperada o está mal formado, se delega en
+ * el enlace completo a {@link ResponseWsDto}, que produce el mismo resultado
+ * (o la misma excepción) que la implementación original.
+ *
+ * A diferencia de la implementación original, los elementos desconocidos se
+ * ignoran en ambos caminos: el recorrido StAX solo busca
+ * {@code ProductoValido/Resultado}, y el {@link XmlMapper} compartido se
+ * configura sin {@code FAIL_ON_UNKNOWN_PROPERTIES}. Así un elemento nuevo en
+ * la respuesta del backend no hace fallar la validación.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public final class ValidProductXmlDecoder {
+
+    // Valor que indica que el producto es válido.
+    private static final String VALID_PRODUCT = "TRUE";
+
+    private static final String VALID_PRODUCT_ELEMENT = "ProductoValido";
+
+    private static final String RESULT_ELEMENT = "Resultado";
+
+    // Fábrica StAX compartida; es segura entre hilos una vez configurada.
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    // XmlMapper compartido para el enlace completo; es seguro entre hilos.
+    // Ignora los elementos desconocidos, igual que el recorrido StAX.
+    private static final XmlMapper XML_MAPPER = XmlMapper.builder()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .build();
+
+    /**
+     * Indica si el primer {@code ProductoValido} del documento tiene
+     * {@code Resultado} igual a {@code TRUE}.
+     *
+     * @param xmlResponse El contenido de {@code XMLReresponse}.
+     * @return {@code true} si el producto es válido.
+     * @throws JsonProcessingException Si el documento no puede enlazarse a
+     *                                 {@link ResponseWsDto}.
+     */
+    public static boolean isValidProduct(String xmlResponse) throws JsonProcessingException {
+        if (xmlResponse != null) {
+            Boolean result = decodeFirstResult(xmlResponse);
+            if (result != null) {
+                return result;
+            }
+        }
+        return isValidProductByBinding(xmlResponse);
+    }
+
+    /**
+     * Enlace completo del documento a {@link ResponseWsDto}; es el camino
+     * original, salvo que ignora los elementos desconocidos, y se usa como
+     * respaldo del decodificador StAX.
+     *
+     * @param xmlResponse El contenido de {@code XMLReresponse}.
+     * @return {@code true} si el primer producto es válido.
+     * @throws JsonProcessingException Si el documento no puede enlazarse.
+     */
+    public static boolean isValidProductByBinding(String xmlResponse) throws JsonProcessingException {
+        ResponseWsDto responseWsDto = XML_MAPPER.readValue(xmlResponse, ResponseWsDto.class);
+        return VALID_PRODUCT.equals(responseWsDto.getValidProduct().getFirst().getProductIsValid());
+    }
+
+    /**
+     * Busca el primer {@code ProductoValido} hijo directo de la raíz y lee su
+     * {@code Resultado}.
+     *
+     * @return El resultado decodificado, o {@code null} si no se pudo decidir y
+     *         se debe usar el enlace completo.
+     */
+    private static Boolean decodeFirstResult(String xmlResponse) {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xmlResponse));
+            int depth = 0;
+            boolean insideProduct = false;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    if (depth == 2 && VALID_PRODUCT_ELEMENT.equals(reader.getLocalName())) {
+                        insideProduct = true;
+                    } else if (insideProduct && depth == 3 && RESULT_ELEMENT.equals(reader.getLocalName())) {
+                        // getElementText consume hasta el END_ELEMENT de Resultado
+                        return VALID_PRODUCT.equals(reader.getElementText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (insideProduct && depth == 2) {
+                        // ProductoValido sin Resultado: el enlace completo lo deja en null
+                        return Boolean.FALSE;
+                    }
+                    depth--;
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            return null;
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // Nada que liberar sobre un StringReader
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return factory;
+    }
+
+    /**
+     * Constructor privado para evitar la instanciación de la clase.
+     */
+    private ValidProductXmlDecoder() {
+    }
+}
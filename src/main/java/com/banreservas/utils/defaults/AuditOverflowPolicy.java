@@ -0,0 +1,23 @@
+package com.banreservas.utils.defaults;
+
+/**
+ * Comportamiento de la cola de auditoría cuando está llena. Se selecciona con
+ * la propiedad {@code validation.audit.overflow-policy}.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public enum AuditOverflowPolicy {
+
+    /**
+     * Descarta el evento y lo cuenta en las métricas.
+     */
+    DROP,
+
+    /**
+     * Espera hasta {@code validation.audit.block-timeout} a que haya espacio y
+     * luego lo descarta. Nunca espera en un hilo de I/O.
+     */
+    BLOCK
+}
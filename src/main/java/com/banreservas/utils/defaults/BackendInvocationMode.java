@@ -0,0 +1,29 @@
+package com.banreservas.utils.defaults;
+
+/**
+ * Modos de invocación del backend SOAP {@code IValidarRequest}.
+ * Se selecciona con la propiedad {@code validation.backend.invocation-mode}.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public enum BackendInvocationMode {
+
+    /**
+     * Llamada bloqueante a {@code validar} en el pool de trabajo por defecto.
+     */
+    BLOCKING,
+
+    /**
+     * Llamada asíncrona a {@code validarAsync} sobre el conduit HTTP asíncrono
+     * de CXF; no ocupa un hilo mientras espera la respuesta.
+     */
+    ASYNC,
+
+    /**
+     * Llamada bloqueante a {@code validar} y decodificación de la respuesta en
+     * hilos virtuales de Java 21 en lugar del pool de trabajo por defecto.
+     */
+    VIRTUAL_THREAD
+}
@@ -0,0 +1,24 @@
+package com.banreservas.utils.defaults;
+
+/**
+ * Políticas de selección del endpoint del backend SOAP cuando se configuran
+ * varios en {@code validation.backend.endpoints}. Se selecciona con la
+ * propiedad {@code validation.backend.balancing-policy}.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public enum BalancingPolicy {
+
+    /**
+     * El endpoint disponible con menos solicitudes en curso.
+     */
+    LEAST_OUTSTANDING,
+
+    /**
+     * Dos endpoints disponibles al azar y, de ellos, el que tenga menos
+     * solicitudes en curso.
+     */
+    POWER_OF_TWO
+}
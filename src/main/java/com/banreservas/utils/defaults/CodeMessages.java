@@ -27,4 +27,7 @@ public class CodeMessages {
 
     // Mensaje para errores internos del servidor
     public static final String MESSAGE_INTERNAL_SERVER_ERROR = "Transacción no pudo ser procesada. Intente nuevamente";
+
+    // Mensaje para servicio temporalmente no disponible
+    public static final String MESSAGE_SERVICE_UNAVAILABLE = "Servicio no disponible temporalmente. Intente nuevamente";
 }
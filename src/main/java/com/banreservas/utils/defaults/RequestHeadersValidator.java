@@ -2,6 +2,7 @@ package com.banreservas.utils.defaults;
 
 import java.util.List;
 
+import io.vertx.core.MultiMap;
 import jakarta.ws.rs.core.HttpHeaders;
 
 /**
@@ -23,6 +24,14 @@ public class RequestHeadersValidator {
      */
     public static final String VALID = "valid";
 
+    /**
+     * Mensajes de error precalculados, en el mismo orden que
+     * {@link RequestHeaders#HEADERS}.
+     */
+    private static final String[] MISSING_HEADER_MESSAGES = RequestHeaders.HEADERS.stream()
+            .map(header -> String.format("Header %s es obligatorio", header))
+            .toArray(String[]::new);
+
     /**
      * Valida los encabezados de una solicitud HTTP.
      * Recorre los encabezados definidos en {@link RequestHeaders#HEADERS} y
@@ -36,18 +45,38 @@ public class RequestHeadersValidator {
     public static String validateRequestHeaders(HttpHeaders headers) {
 
         // Recorre todos los encabezados definidos en la clase RequestHeaders
-        for (String header : RequestHeaders.HEADERS) {
+        for (int i = 0; i < RequestHeaders.HEADERS.size(); i++) {
             // Obtiene los valores del encabezado
-            List<String> values = headers.getRequestHeaders().get(header);
+            List<String> values = headers.getRequestHeaders().get(RequestHeaders.HEADERS.get(i));
 
             // Si el valor está vacío o no existe, retorna un mensaje indicando el
             // encabezado faltante
             if (values == null || values.isEmpty() || values.get(0).isBlank()) {
-                return String.format("Header %s es obligatorio", header);
+                return MISSING_HEADER_MESSAGES[i];
             }
         }
 
         // Si todos los encabezados son válidos, retorna "valid"
         return VALID;
     }
+
+    /**
+     * Valida los encabezados directamente sobre la solicitud de Vert.x, antes
+     * de que se lea el cuerpo. Hace una sola pasada sobre
+     * {@link RequestHeaders#HEADERS} sin crear objetos: la búsqueda en
+     * {@link MultiMap} no copia valores y los mensajes de error están
+     * precalculados.
+     *
+     * @param headers Los encabezados de la solicitud de Vert.x.
+     * @return {@link #VALID} o el mensaje del primer encabezado faltante.
+     */
+    public static String validateRequestHeaders(MultiMap headers) {
+        for (int i = 0; i < RequestHeaders.HEADERS.size(); i++) {
+            String value = headers.get(RequestHeaders.HEADERS.get(i));
+            if (value == null || value.isBlank()) {
+                return MISSING_HEADER_MESSAGES[i];
+            }
+        }
+        return VALID;
+    }
 }
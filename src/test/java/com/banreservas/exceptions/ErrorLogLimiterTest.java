@@ -0,0 +1,119 @@
+package com.banreservas.exceptions;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class ErrorLogLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(Duration.ofHours(1).toNanos());
+
+    private SimpleMeterRegistry registry;
+
+    private Logger log;
+
+    private ErrorLogLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        log = mock(Logger.class);
+
+        limiter = new ErrorLogLimiter();
+        limiter.logInterval = Duration.ofSeconds(10);
+        limiter.maxKeys = 3;
+        limiter.registry = registry;
+        limiter.ticker = nanos::get;
+        limiter.init();
+    }
+
+    @Test
+    void repeatedError_IsLoggedOncePerIntervalAndCountedEveryTime() {
+        for (int i = 0; i < 3; i++) {
+            limiter.log(log, Logger.Level.ERROR, new IllegalStateException("boom"));
+        }
+
+        verify(log, times(1)).logv(Logger.Level.ERROR, "{0}: {1}", "IllegalStateException", "boom");
+        assertEquals(3, errors("IllegalStateException"));
+        assertEquals(2, suppressed("IllegalStateException"));
+    }
+
+    @Test
+    void nextLogAfterInterval_ReportsSkippedRepetitions() {
+        for (int i = 0; i < 3; i++) {
+            limiter.log(log, Logger.Level.WARN, new IllegalStateException("boom"));
+        }
+        advance(Duration.ofSeconds(9));
+        limiter.log(log, Logger.Level.WARN, new IllegalStateException("boom"));
+        advance(Duration.ofSeconds(1));
+
+        limiter.log(log, Logger.Level.WARN, new IllegalStateException("boom"));
+
+        verify(log).logv(Logger.Level.WARN, "{0}: {1} (+{2} repeticiones omitidas)", "IllegalStateException",
+                "boom", 3L);
+    }
+
+    @Test
+    void differentMessages_AreLoggedSeparately() {
+        limiter.log(log, Logger.Level.ERROR, new IllegalStateException("boom"));
+        limiter.log(log, Logger.Level.ERROR, new IllegalStateException("bang"));
+        limiter.log(log, Logger.Level.ERROR, new IllegalArgumentException("boom"));
+
+        verify(log, times(3)).logv(eq(Logger.Level.ERROR), eq("{0}: {1}"), any(), any());
+        assertEquals(2, errors("IllegalStateException"));
+        assertEquals(1, errors("IllegalArgumentException"));
+    }
+
+    @Test
+    void distinctErrorsBeyondMaxKeys_ShareOneWindow() {
+        for (int i = 0; i < 6; i++) {
+            limiter.log(log, Logger.Level.ERROR, new IllegalStateException("boom " + i));
+        }
+
+        // Los tres primeros tienen su ventana; los demás comparten la de desborde
+        verify(log, times(4)).logv(eq(Logger.Level.ERROR), anyString(), any(), any());
+        assertEquals(6, errors("IllegalStateException"));
+        assertEquals(2, suppressed("IllegalStateException"));
+    }
+
+    @Test
+    void idleWindows_AreEvicted() {
+        limiter.log(log, Logger.Level.ERROR, new IllegalStateException("boom 1"));
+        limiter.log(log, Logger.Level.ERROR, new IllegalStateException("boom 2"));
+        assertEquals(2, limiter.windows.estimatedSize());
+
+        advance(Duration.ofSeconds(10));
+        limiter.windows.cleanUp();
+
+        assertEquals(0, limiter.windows.estimatedSize());
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private double errors(String type) {
+        return registry.get("validaciones.errores").tag("tipo", type).counter().count();
+    }
+
+    private double suppressed(String type) {
+        return registry.get("validaciones.errores.omitidos").tag("tipo", type).counter().count();
+    }
+}
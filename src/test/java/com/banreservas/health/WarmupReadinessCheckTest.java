@@ -0,0 +1,54 @@
+package com.banreservas.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.services.implementations.StartupWarmup;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class WarmupReadinessCheckTest {
+
+    private StartupWarmup startupWarmup;
+
+    private WarmupReadinessCheck check;
+
+    @BeforeEach
+    void setUp() {
+        startupWarmup = mock(StartupWarmup.class);
+        check = new WarmupReadinessCheck();
+        check.startupWarmup = startupWarmup;
+    }
+
+    @Test
+    void call_WarmupRunning_Return_Down() {
+        when(startupWarmup.isComplete()).thenReturn(false);
+        when(startupWarmup.getDurationMillis()).thenReturn(-1L);
+
+        HealthCheckResponse response = check.call();
+
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+        assertEquals(-1L, response.getData().orElseThrow().get("duracionMs"));
+    }
+
+    @Test
+    void call_WarmupComplete_Return_UpWithDuration() {
+        when(startupWarmup.isComplete()).thenReturn(true);
+        when(startupWarmup.getDurationMillis()).thenReturn(850L);
+
+        HealthCheckResponse response = check.call();
+
+        assertEquals(HealthCheckResponse.Status.UP, response.getStatus());
+        assertEquals("calentamiento", response.getName());
+        assertEquals(850L, response.getData().orElseThrow().get("duracionMs"));
+    }
+}
@@ -0,0 +1,187 @@
+package com.banreservas.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Generador de carga de lazo cerrado contra la aplicación empaquetada.
+ * Cada usuario virtual envía solicitudes consecutivas a
+ * {@code /api/v1/valida-cuentas-mancomunadas}; al terminar reporta el
+ * throughput y las latencias p50/p99/p999 y agrega una línea JSON al archivo
+ * de resultados para comparar modos de ejecución y versiones.
+ *
+ * Parámetros (propiedades del sistema):
+ * <ul>
+ * <li>{@code load.url}: URL del endpoint.</li>
+ * <li>{@code load.mode}: etiqueta del modo de ejecución probado.</li>
+ * <li>{@code load.concurrency}: usuarios virtuales concurrentes.</li>
+ * <li>{@code load.warmup} y {@code load.duration}: duraciones ISO-8601.</li>
+ * <li>{@code load.pairs}: pares de cuentas distintos a consultar.</li>
+ * <li>{@code load.token}: token bearer para el endpoint autenticado.</li>
+ * <li>{@code load.results}: archivo JSON de resultados.</li>
+ * <li>{@code load.windows}: ventanas consecutivas de {@code load.duration};
+ * con más de una, cada ventana se reporta como {@code modo/n} para seguir la
+ * evolución del throughput tras el arranque.</li>
+ * </ul>
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(2).toNanos() / 1000;
+
+    private final HttpClient client;
+
+    private final URI uri;
+
+    private final String token;
+
+    private final int pairs;
+
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    private final LongAdder failures = new LongAdder();
+
+    LoadDriver(URI uri, String token, int pairs) {
+        this.uri = uri;
+        this.token = token;
+        this.pairs = pairs;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(System.getProperty("load.url",
+                "http://localhost:8080/api/v1/valida-cuentas-mancomunadas"));
+        String mode = System.getProperty("load.mode", "blocking");
+        int concurrency = Integer.getInteger("load.concurrency", 200);
+        Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT20S"));
+        Duration duration = Duration.parse(System.getProperty("load.duration", "PT60S"));
+        Path results = Path.of(System.getProperty("load.results", "target/load-results.json"));
+
+        LoadDriver driver = new LoadDriver(uri, System.getProperty("load.token", ""),
+                Integer.getInteger("load.pairs", 10_000));
+
+        System.out.printf("Calentamiento (%s) con %d usuarios virtuales...%n", warmup, concurrency);
+        driver.run(concurrency, warmup);
+        driver.statusCounts.clear();
+        driver.failures.reset();
+
+        int windows = Integer.getInteger("load.windows", 1);
+        Files.createDirectories(results.toAbsolutePath().getParent());
+        for (int window = 1; window <= windows; window++) {
+            String label = windows > 1 ? mode + "/" + window : mode;
+            System.out.printf("Medición (%s) con %d usuarios virtuales, modo %s...%n", duration, concurrency, label);
+            long start = System.nanoTime();
+            Histogram histogram = driver.run(concurrency, duration);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            String report = report(label, concurrency, elapsedSeconds, histogram, driver);
+            System.out.println(report);
+            Files.writeString(results, report + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            driver.statusCounts.clear();
+            driver.failures.reset();
+        }
+    }
+
+    /**
+     * Ejecuta los usuarios virtuales durante el tiempo indicado.
+     *
+     * @return El histograma combinado de latencias en microsegundos.
+     */
+    Histogram run(int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Histogram> histograms = new ArrayList<>(concurrency);
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+                histograms.add(histogram);
+                users.submit(() -> virtualUser(deadline, histogram));
+            }
+        }
+
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        histograms.forEach(total::add);
+        return total;
+    }
+
+    private void virtualUser(long deadline, Histogram histogram) {
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(nextRequest(), HttpResponse.BodyHandlers.discarding());
+                statusCounts.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+            } catch (IOException e) {
+                failures.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            histogram.recordValue(Math.min((System.nanoTime() - start) / 1000, HIGHEST_TRACKABLE_MICROS));
+        }
+    }
+
+    private HttpRequest nextRequest() {
+        int pair = ThreadLocalRandom.current().nextInt(pairs);
+        String body = String.format("{\"cuentaOrigen\":\"%010d\",\"cuentaDestino\":\"%010d\"}", pair, pairs + pair);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .header("sessionId", "load-" + pair)
+                .header("id_consumidor", "load-test")
+                .header("usuario", "load-test")
+                .header("fecha_hora", "2025-01-28T12:00:00")
+                .header("terminal", "load-test")
+                .header("operacion", "load-test")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (!token.isBlank()) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request.build();
+    }
+
+    private static String report(String mode, int concurrency, double elapsedSeconds, Histogram histogram,
+            LoadDriver driver) {
+        StringBuilder statuses = new StringBuilder();
+        driver.statusCounts.forEach((status, count) -> statuses
+                .append(statuses.isEmpty() ? "" : ",")
+                .append('"').append(status).append("\":").append(count.sum()));
+
+        return String.format(Locale.ROOT,
+                "{\"mode\":\"%s\",\"concurrency\":%d,\"requests\":%d,\"throughput\":%.1f,"
+                        + "\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"p999Ms\":%.2f,\"maxMs\":%.2f,"
+                        + "\"ioFailures\":%d,\"statuses\":{%s}}",
+                mode, concurrency, histogram.getTotalCount(), histogram.getTotalCount() / elapsedSeconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                driver.failures.sum(), statuses);
+    }
+}
@@ -0,0 +1,57 @@
+package com.banreservas.resources;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import io.quarkus.test.Mock;
+import io.smallrye.faulttolerance.api.CircuitBreakerMaintenance;
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import jakarta.inject.Singleton;
+
+/**
+ * Mantenimiento de circuit breakers para las pruebas. El servicio simulado
+ * no declara el circuit breaker del backend, por lo que los observadores se
+ * guardan aquí y las pruebas disparan los cambios de estado.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@Mock
+@Singleton
+public class CircuitBreakerMaintenanceMock implements CircuitBreakerMaintenance {
+
+    private final Map<String, List<Consumer<CircuitBreakerState>>> callbacks = new ConcurrentHashMap<>();
+
+    @Override
+    public CircuitBreakerState currentState(String name) {
+        return CircuitBreakerState.CLOSED;
+    }
+
+    @Override
+    public void onStateChange(String name, Consumer<CircuitBreakerState> callback) {
+        callbacks.computeIfAbsent(name, ignored -> new CopyOnWriteArrayList<>()).add(callback);
+    }
+
+    @Override
+    public void reset(String name) {
+    }
+
+    @Override
+    public void resetAll() {
+    }
+
+    /**
+     * Notifica un cambio de estado a los observadores del circuit breaker.
+     *
+     * @param name  El nombre del circuit breaker.
+     * @param state El nuevo estado.
+     */
+    public void changeState(String name, CircuitBreakerState state) {
+        callbacks.getOrDefault(name, List.of()).forEach(callback -> callback.accept(state));
+    }
+}
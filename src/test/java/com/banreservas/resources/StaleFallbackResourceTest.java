@@ -0,0 +1,103 @@
+package com.banreservas.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.services.implementations.StaleValidationStore;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Respuesta con el último resultado conocido cuando el backend no responde a
+ * tiempo.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+@TestProfile(StaleFallbackResourceTest.StaleFallbackProfile.class)
+public class StaleFallbackResourceTest {
+
+    @Inject
+    StaleValidationStore staleValidationStore;
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void backendTimeout_WithKnownResult_Return_StaleResponse() {
+        RequestDto request = new RequestDto("0987654321", ValidatesJointAccountsServiceMock.TIMEOUT_ORIGIN_ACCOUNT);
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle("operacion", "test-operation");
+        staleValidationStore.record(request, headers, new ResponseValidatesJointAccountsDto(true));
+
+        withHeaders()
+                .body(request)
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas")
+                .then()
+                .statusCode(200)
+                .header(ValidatesJointAccountsResource.STALE_HEADER, "true")
+                .header("Age", "0")
+                .body("body.isValidProduct", equalTo(true));
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void backendTimeout_WithoutKnownResult_Return_Error() {
+        RequestDto request = new RequestDto("1111111111", ValidatesJointAccountsServiceMock.TIMEOUT_ORIGIN_ACCOUNT);
+
+        withHeaders()
+                .body(request)
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas")
+                .then()
+                .statusCode(500);
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void liveResponse_HasNoStaleHeader() {
+        withHeaders()
+                .body(new RequestDto("0987654321", "1234567890"))
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas")
+                .then()
+                .statusCode(200)
+                .header(ValidatesJointAccountsResource.STALE_HEADER, nullValue());
+    }
+
+    private static RequestSpecification withHeaders() {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("id_consumidor", "test-consumer")
+                .header("usuario", "test-user")
+                .header("fecha_hora", "2025-01-28T12:00:00")
+                .header("terminal", "test-terminal")
+                .header("operacion", "test-operation")
+                .header("sessionId", "test-session");
+    }
+
+    public static class StaleFallbackProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("validation.stale.enabled", "true");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.banreservas.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.services.implementations.StaleValidationStore;
+import com.banreservas.services.implementations.ValidationResultCache;
+import com.banreservas.utils.AccountPairKey;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import jakarta.inject.Inject;
+
+/**
+ * Último resultado conocido con el caché de resultados habilitado: solo las
+ * respuestas del backend se registran, no las servidas desde el caché.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+@TestProfile(StaleFallbackWithCacheResourceTest.CacheAndStaleProfile.class)
+public class StaleFallbackWithCacheResourceTest {
+
+    @Inject
+    StaleValidationStore staleValidationStore;
+
+    @Inject
+    ValidationResultCache validationResultCache;
+
+    @BeforeEach
+    void setup() {
+        validationResultCache.invalidateAll();
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void cacheHit_IsNotRecordedAsKnownResult() {
+        RequestDto request = new RequestDto("3333333333", "4444444444");
+        validationResultCache.put(AccountPairKey.of(request), new ResponseValidatesJointAccountsDto(false));
+
+        withHeaders()
+                .body(request)
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas")
+                .then()
+                .statusCode(200)
+                .body("body.isValidProduct", equalTo(false));
+
+        assertTrue(staleValidationStore.lookup(request, "test-operation").isEmpty());
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void cacheMiss_RecordsBackendResult() {
+        RequestDto request = new RequestDto("5555555555", "6666666666");
+
+        withHeaders()
+                .body(request)
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas")
+                .then()
+                .statusCode(200)
+                .body("body.isValidProduct", equalTo(true));
+
+        StaleValidationStore.StaleResult stale = staleValidationStore.lookup(request, "test-operation")
+                .orElseThrow();
+        assertTrue(stale.result().isValidProduct());
+        assertNotNull(validationResultCache.get(AccountPairKey.of(request)));
+    }
+
+    private static RequestSpecification withHeaders() {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("id_consumidor", "test-consumer")
+                .header("usuario", "test-user")
+                .header("fecha_hora", "2025-01-28T12:00:00")
+                .header("terminal", "test-terminal")
+                .header("operacion", "test-operation")
+                .header("sessionId", "test-session");
+    }
+
+    public static class CacheAndStaleProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("validation.stale.enabled", "true", "validation.cache.enabled", "true");
+        }
+    }
+}
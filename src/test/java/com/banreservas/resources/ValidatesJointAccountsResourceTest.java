@@ -1,16 +1,29 @@
 package com.banreservas.resources;
 
 import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.banreservas.dtos.inbound.BatchItemResultDto;
 import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseDto;
+import com.banreservas.dtos.inbound.ResponseHeaderDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
 import com.banreservas.services.implementations.ValidatesJointAccountsService;
 import com.banreservas.utils.defaults.CodeMessages;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.security.TestSecurity;
 import io.restassured.http.ContentType;
@@ -30,6 +43,12 @@ public class ValidatesJointAccountsResourceTest {
     @Inject
     ValidatesJointAccountsService validaCuentasMancomunadasService;
 
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry registry;
+
     private RequestDto requestDto;
     private Map<String, String> headers;
 
@@ -70,6 +89,32 @@ public class ValidatesJointAccountsResourceTest {
                 .body("body.isValidProduct", equalTo(true));
     }
 
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void testValidateAccountsSuccess_BodyIsIdenticalToJackson() throws Exception {
+        byte[] expected = objectMapper.writeValueAsBytes(new ResponseDto(
+                new ResponseHeaderDto(200, CodeMessages.MESSAGE_SUCCESS),
+                new ResponseValidatesJointAccountsDto(true)));
+
+        byte[] actual = given()
+                .contentType(ContentType.JSON)
+                .header("id_consumidor", headers.get("id_consumidor"))
+                .header("usuario", headers.get("usuario"))
+                .header("fecha_hora", headers.get("fecha_hora"))
+                .header("terminal", headers.get("terminal"))
+                .header("operacion", headers.get("operacion"))
+                .header("sessionId", headers.get("sessionId"))
+                .body(requestDto)
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .extract().asByteArray();
+
+        assertArrayEquals(expected, actual);
+    }
+
     @Test
     void testValidateAccountsAuthorization() throws Exception {
 
@@ -109,4 +154,291 @@ public class ValidatesJointAccountsResourceTest {
                 .statusCode(400) // Código esperado para una solicitud incorrecta
                 .body("header.responseMessage", equalTo("Header sessionId es obligatorio"));
     }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void testValidateAccounts_MissingHeader_RejectedBeforeBody() {
+        // El cuerpo inválido no llega a leerse: responde el filtro de encabezados
+        given()
+                .contentType(ContentType.JSON)
+                .header("id_consumidor", headers.get("id_consumidor"))
+                .header("usuario", headers.get("usuario"))
+                .header("fecha_hora", headers.get("fecha_hora"))
+                .header("terminal", headers.get("terminal"))
+                .header("sessionId", headers.get("sessionId"))
+                .body("{no es json")
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas")
+                .then()
+                .statusCode(400)
+                .contentType(ContentType.JSON)
+                .body("header.responseCode", equalTo(400))
+                .body("header.responseMessage", equalTo("Header operacion es obligatorio"));
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void testValidateAccounts_BackendOverloaded_Return_ServiceUnavailable() {
+        given()
+                .contentType(ContentType.JSON)
+                .header("id_consumidor", headers.get("id_consumidor"))
+                .header("usuario", headers.get("usuario"))
+                .header("fecha_hora", headers.get("fecha_hora"))
+                .header("terminal", headers.get("terminal"))
+                .header("operacion", headers.get("operacion"))
+                .header("sessionId", headers.get("sessionId"))
+                .body(new RequestDto("0987654321", ValidatesJointAccountsServiceMock.OVERLOADED_ORIGIN_ACCOUNT))
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas")
+                .then()
+                .statusCode(503)
+                .header("Retry-After", "2")
+                .header("sessionId", headers.get("sessionId"))
+                .body("message", equalTo(CodeMessages.MESSAGE_SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void testValidateAccounts_RepeatedOverload_CountsEveryErrorAndSkipsDuplicateLogs() {
+        double errorsBefore = errorCount("validaciones.errores");
+        double suppressedBefore = errorCount("validaciones.errores.omitidos");
+
+        for (int i = 0; i < 3; i++) {
+            given()
+                    .contentType(ContentType.JSON)
+                    .header("id_consumidor", headers.get("id_consumidor"))
+                    .header("usuario", headers.get("usuario"))
+                    .header("fecha_hora", headers.get("fecha_hora"))
+                    .header("terminal", headers.get("terminal"))
+                    .header("operacion", headers.get("operacion"))
+                    .header("sessionId", headers.get("sessionId"))
+                    .body(new RequestDto("0987654321", ValidatesJointAccountsServiceMock.OVERLOADED_ORIGIN_ACCOUNT))
+                    .when()
+                    .post("/v1/valida-cuentas-mancomunadas")
+                    .then()
+                    .statusCode(503)
+                    .header("Retry-After", "2");
+        }
+
+        // Cada rechazo se cuenta, pero las repeticiones dentro del intervalo no se escriben
+        assertEquals(errorsBefore + 3, errorCount("validaciones.errores"));
+        assertTrue(errorCount("validaciones.errores.omitidos") >= suppressedBefore + 2);
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void testValidateAccountsBatch_RepeatedItemFailures_CountsEveryErrorAndSkipsDuplicateLogs() {
+        double errorsBefore = errorCount("validaciones.errores");
+        double suppressedBefore = errorCount("validaciones.errores.omitidos");
+
+        // Pares distintos que fallan con el mismo error
+        List<RequestDto> batch = List.of(
+                new RequestDto("1000000001", ValidatesJointAccountsServiceMock.OVERLOADED_ORIGIN_ACCOUNT),
+                new RequestDto("1000000002", ValidatesJointAccountsServiceMock.OVERLOADED_ORIGIN_ACCOUNT),
+                new RequestDto("1000000003", ValidatesJointAccountsServiceMock.OVERLOADED_ORIGIN_ACCOUNT));
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("id_consumidor", headers.get("id_consumidor"))
+                .header("usuario", headers.get("usuario"))
+                .header("fecha_hora", headers.get("fecha_hora"))
+                .header("terminal", headers.get("terminal"))
+                .header("operacion", headers.get("operacion"))
+                .header("sessionId", headers.get("sessionId"))
+                .body(batch)
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas/lote")
+                .then()
+                .statusCode(200)
+                .body("body.size()", equalTo(3));
+
+        // Cada elemento se cuenta, pero el mismo error se escribe a lo sumo una vez por intervalo
+        assertEquals(errorsBefore + 3, errorCount("validaciones.errores"));
+        assertTrue(errorCount("validaciones.errores.omitidos") >= suppressedBefore + 2);
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void testValidateAccountsBatchSuccess() {
+        // Lote con un par repetido y un elemento inválido
+        List<RequestDto> batch = List.of(requestDto, new RequestDto("", "0987654321"), requestDto);
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("id_consumidor", headers.get("id_consumidor"))
+                .header("usuario", headers.get("usuario"))
+                .header("fecha_hora", headers.get("fecha_hora"))
+                .header("terminal", headers.get("terminal"))
+                .header("operacion", headers.get("operacion"))
+                .header("sessionId", headers.get("sessionId"))
+                .body(batch)
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas/lote")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("header.responseMessage", equalTo("Exitoso"))
+                .body("body.size()", equalTo(3))
+                .body("body[0].indice", equalTo(0))
+                .body("body[0].isValidProduct", equalTo(true))
+                .body("body[1].responseCode", equalTo(400))
+                .body("body[2].indice", equalTo(2))
+                .body("body[2].isValidProduct", equalTo(true));
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void testValidateAccountsStream_IndexesFollowInputLines() throws Exception {
+        // Línea 1 en blanco, línea 3 no es JSON, línea 4 sin cuenta origen, línea 5 falla en el backend
+        String body = String.join("\n",
+                "{\"cuentaOrigen\":\"1234567890\",\"cuentaDestino\":\"0987654321\"}",
+                "   ",
+                "{\"cuentaOrigen\":\"1111111111\",\"cuentaDestino\":\"2222222222\"}",
+                "{no es json",
+                "{\"cuentaOrigen\":\"\",\"cuentaDestino\":\"2222222222\"}",
+                "{\"cuentaOrigen\":\"" + ValidatesJointAccountsServiceMock.FAILING_ORIGIN_ACCOUNT
+                        + "\",\"cuentaDestino\":\"2222222222\"}",
+                "");
+
+        String response = given()
+                .contentType("application/x-ndjson")
+                .accept("application/x-ndjson")
+                .header("id_consumidor", headers.get("id_consumidor"))
+                .header("usuario", headers.get("usuario"))
+                .header("fecha_hora", headers.get("fecha_hora"))
+                .header("terminal", headers.get("terminal"))
+                .header("operacion", headers.get("operacion"))
+                .header("sessionId", headers.get("sessionId"))
+                .body(body)
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas/lote/stream")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+
+        // El orden de emisión puede variar; cada resultado se identifica por su índice
+        Map<Long, BatchItemResultDto> results = new TreeMap<>();
+        for (String line : response.split("\n")) {
+            if (!line.isBlank()) {
+                BatchItemResultDto result = objectMapper.readValue(line, BatchItemResultDto.class);
+                assertNull(results.put(result.index(), result));
+            }
+        }
+
+        assertEquals(List.of(0L, 2L, 3L, 4L, 5L), List.copyOf(results.keySet()));
+
+        assertEquals(200, results.get(0L).responseCode());
+        assertEquals("1234567890", results.get(0L).originAccount());
+        assertTrue(results.get(0L).isValidProduct());
+
+        assertEquals(200, results.get(2L).responseCode());
+        assertEquals("1111111111", results.get(2L).originAccount());
+
+        assertEquals(400, results.get(3L).responseCode());
+        assertNull(results.get(3L).isValidProduct());
+
+        assertEquals(400, results.get(4L).responseCode());
+        assertEquals("2222222222", results.get(4L).destinyAccount());
+
+        assertEquals(500, results.get(5L).responseCode());
+        assertEquals(ValidatesJointAccountsServiceMock.FAILING_ORIGIN_ACCOUNT, results.get(5L).originAccount());
+        assertNull(results.get(5L).isValidProduct());
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void testValidateAccountsStream_ItemFailures_KeepSingleEndpointStatus() throws Exception {
+        String body = String.join("\n",
+                "{\"cuentaOrigen\":\"" + ValidatesJointAccountsServiceMock.OVERLOADED_ORIGIN_ACCOUNT
+                        + "\",\"cuentaDestino\":\"2222222222\"}",
+                "{\"cuentaOrigen\":\"" + ValidatesJointAccountsServiceMock.TIMEOUT_ORIGIN_ACCOUNT
+                        + "\",\"cuentaDestino\":\"2222222222\"}",
+                "");
+
+        String response = given()
+                .contentType("application/x-ndjson")
+                .accept("application/x-ndjson")
+                .header("id_consumidor", headers.get("id_consumidor"))
+                .header("usuario", headers.get("usuario"))
+                .header("fecha_hora", headers.get("fecha_hora"))
+                .header("terminal", headers.get("terminal"))
+                .header("operacion", headers.get("operacion"))
+                .header("sessionId", headers.get("sessionId"))
+                .body(body)
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas/lote/stream")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+
+        Map<Long, BatchItemResultDto> results = new TreeMap<>();
+        for (String line : response.split("\n")) {
+            if (!line.isBlank()) {
+                BatchItemResultDto result = objectMapper.readValue(line, BatchItemResultDto.class);
+                results.put(result.index(), result);
+            }
+        }
+
+        // El rechazo del limitador es 503, como en la validación individual
+        assertEquals(503, results.get(0L).responseCode());
+        assertEquals(CodeMessages.MESSAGE_SERVICE_UNAVAILABLE, results.get(0L).responseMessage());
+        assertNull(results.get(0L).isValidProduct());
+
+        assertEquals(500, results.get(1L).responseCode());
+        assertEquals(CodeMessages.MESSAGE_INTERNAL_SERVER_ERROR, results.get(1L).responseMessage());
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void testValidateAccountsBatch_ItemFailures_KeepSingleEndpointStatus() {
+        List<RequestDto> batch = List.of(
+                new RequestDto("2222222222", ValidatesJointAccountsServiceMock.OVERLOADED_ORIGIN_ACCOUNT),
+                new RequestDto("2222222222", ValidatesJointAccountsServiceMock.TIMEOUT_ORIGIN_ACCOUNT),
+                requestDto);
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("id_consumidor", headers.get("id_consumidor"))
+                .header("usuario", headers.get("usuario"))
+                .header("fecha_hora", headers.get("fecha_hora"))
+                .header("terminal", headers.get("terminal"))
+                .header("operacion", headers.get("operacion"))
+                .header("sessionId", headers.get("sessionId"))
+                .body(batch)
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas/lote")
+                .then()
+                .statusCode(200)
+                .body("body[0].responseCode", equalTo(503))
+                .body("body[0].responseMessage", equalTo(CodeMessages.MESSAGE_SERVICE_UNAVAILABLE))
+                .body("body[1].responseCode", equalTo(500))
+                .body("body[1].responseMessage", equalTo(CodeMessages.MESSAGE_INTERNAL_SERVER_ERROR))
+                .body("body[2].responseCode", equalTo(200));
+    }
+
+    @Test
+    @TestSecurity(authorizationEnabled = false)
+    void testValidateAccountsStream_MissingHeader() {
+        // El filtro de encabezados responde antes de leer la entrada NDJSON
+        given()
+                .contentType("application/x-ndjson")
+                .header("id_consumidor", headers.get("id_consumidor"))
+                .header("usuario", headers.get("usuario"))
+                .header("fecha_hora", headers.get("fecha_hora"))
+                .header("operacion", headers.get("operacion"))
+                .header("sessionId", headers.get("sessionId"))
+                .body("{\"cuentaOrigen\":\"1234567890\",\"cuentaDestino\":\"0987654321\"}\n")
+                .when()
+                .post("/v1/valida-cuentas-mancomunadas/lote/stream")
+                .then()
+                .statusCode(400)
+                .contentType(ContentType.JSON)
+                .body("header.responseCode", equalTo(400))
+                .body("header.responseMessage", equalTo("Header terminal es obligatorio"));
+    }
+
+    private double errorCount(String name) {
+        Counter counter = registry.find(name).tag("tipo", "BackendOverloadedException").counter();
+        return counter != null ? counter.count() : 0;
+    }
 }
@@ -1,11 +1,18 @@
 package com.banreservas.resources;
 
+import java.time.Duration;
+
 import com.banreservas.dtos.inbound.RequestDto;
 import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.exceptions.BackendOverloadedException;
+import com.banreservas.exceptions.BackendTimeoutException;
+import com.banreservas.exceptions.BackendTransientException;
+import com.banreservas.services.implementations.StaleValidationStore;
 import com.banreservas.services.implementations.ValidatesJointAccountsService;
 
 import io.quarkus.test.Mock;
 import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.core.MultivaluedMap;
 
 /**
@@ -18,12 +25,38 @@ import jakarta.ws.rs.core.MultivaluedMap;
 @Mock
 public class ValidatesJointAccountsServiceMock extends ValidatesJointAccountsService {
 
+    // Cuenta origen con la que el backend simulado falla por transporte
+    public static final String FAILING_ORIGIN_ACCOUNT = "9999999999";
+
+    // Cuenta origen con la que el limitador de concurrencia rechaza la llamada
+    public static final String OVERLOADED_ORIGIN_ACCOUNT = "8888888888";
+
+    // Cuenta origen con la que el backend simulado no responde a tiempo
+    public static final String TIMEOUT_ORIGIN_ACCOUNT = "7777777777";
+
+    @Inject
+    StaleValidationStore staleValidationStore;
+
     @Override
     public Uni<ResponseValidatesJointAccountsDto> validateAccounts(RequestDto request,
             MultivaluedMap<String, String> headers) {
 
-        // Simula la respuesta del servicio
+        if (FAILING_ORIGIN_ACCOUNT.equals(request.originAccount())) {
+            return Uni.createFrom().failure(new BackendTransientException("Connection refused", null));
+        }
+
+        if (OVERLOADED_ORIGIN_ACCOUNT.equals(request.originAccount())) {
+            return Uni.createFrom().failure(new BackendOverloadedException(
+                    "Límite de llamadas concurrentes al backend alcanzado", Duration.ofSeconds(2)));
+        }
+
+        if (TIMEOUT_ORIGIN_ACCOUNT.equals(request.originAccount())) {
+            return Uni.createFrom().failure(new BackendTimeoutException("Read timed out", null));
+        }
+
+        // Simula la respuesta del servicio, que la registra como último resultado conocido
         ResponseValidatesJointAccountsDto mockResponse = new ResponseValidatesJointAccountsDto(true);
+        staleValidationStore.record(request, headers, mockResponse);
 
         return Uni.createFrom().item(mockResponse);
     }
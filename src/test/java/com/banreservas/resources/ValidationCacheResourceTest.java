@@ -0,0 +1,93 @@
+package com.banreservas.resources;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.services.implementations.ValidationResultCache;
+import com.banreservas.utils.AccountPairKey;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import jakarta.inject.Inject;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class ValidationCacheResourceTest {
+
+    private static final String ADMIN_PATH = "/v1/admin/cache-validaciones";
+
+    private static final AccountPairKey FIRST_PAIR = new AccountPairKey("1234567890", "0987654321");
+
+    private static final AccountPairKey SECOND_PAIR = new AccountPairKey("1111111111", "2222222222");
+
+    @Inject
+    ValidationResultCache validationResultCache;
+
+    @BeforeEach
+    void setup() {
+        validationResultCache.invalidateAll();
+        validationResultCache.put(FIRST_PAIR, new ResponseValidatesJointAccountsDto(true));
+        validationResultCache.put(SECOND_PAIR, new ResponseValidatesJointAccountsDto(false));
+    }
+
+    @Test
+    @TestSecurity(user = "admin", roles = "admin")
+    void invalidatePair_RemovesOnlyThatPair() {
+        given()
+                .when()
+                .delete(ADMIN_PATH + "/1234567890/0987654321")
+                .then()
+                .statusCode(200)
+                .body("header.responseCode", equalTo(200));
+
+        assertNull(validationResultCache.get(FIRST_PAIR));
+        assertNotNull(validationResultCache.get(SECOND_PAIR));
+    }
+
+    @Test
+    @TestSecurity(user = "admin", roles = "admin")
+    void invalidateAll_RemovesEveryPair() {
+        given()
+                .when()
+                .delete(ADMIN_PATH)
+                .then()
+                .statusCode(200);
+
+        assertNull(validationResultCache.get(FIRST_PAIR));
+        assertNull(validationResultCache.get(SECOND_PAIR));
+    }
+
+    @Test
+    @TestSecurity(user = "operador", roles = "user")
+    void invalidateAll_WithoutAdminRole_Return_Forbidden() {
+        given()
+                .when()
+                .delete(ADMIN_PATH)
+                .then()
+                .statusCode(403);
+
+        assertNotNull(validationResultCache.get(FIRST_PAIR));
+    }
+
+    @Test
+    void invalidateAll_Unauthenticated_Return_Unauthorized() {
+        given()
+                .when()
+                .delete(ADMIN_PATH)
+                .then()
+                .statusCode(401);
+
+        assertNotNull(validationResultCache.get(SECOND_PAIR));
+    }
+}
@@ -0,0 +1,122 @@
+package com.banreservas.security;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.util.Map;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.jwt.build.Jwt;
+import io.smallrye.jwt.util.KeyUtils;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.inject.Inject;
+
+/**
+ * Verificación local de JWT contra la llave pública estática de las pruebas
+ * ({@code %test.quarkus.oidc.public-key}) con la cache de tokens habilitada.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+@TestProfile(VerifiedTokenCacheTest.TokenCacheProfile.class)
+public class VerifiedTokenCacheTest {
+
+    private static final String ADMIN_PATH = "/v1/admin/cache-validaciones";
+
+    @Inject
+    VerifiedTokenCache tokenCache;
+
+    @Inject
+    MeterRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        tokenCache.invalidateAll();
+    }
+
+    @Test
+    void repeatedToken_IsServedFromCache() throws Exception {
+        String token = sign(KeyUtils.readPrivateKey("/jwt/privateKey.pem"), 300);
+        double hitsBefore = hits();
+
+        given().auth().oauth2(token).when().delete(ADMIN_PATH).then().statusCode(200);
+        given().auth().oauth2(token).when().delete(ADMIN_PATH).then().statusCode(200);
+
+        assertEquals(hitsBefore + 1, hits());
+    }
+
+    @Test
+    void tokenSignedWithUnknownKey_Return_Unauthorized() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        String token = sign(generator.generateKeyPair().getPrivate(), 300);
+
+        given().auth().oauth2(token).when().delete(ADMIN_PATH).then().statusCode(401);
+    }
+
+    @Test
+    void expiredToken_Return_Unauthorized() throws Exception {
+        String token = sign(KeyUtils.readPrivateKey("/jwt/privateKey.pem"), -600);
+
+        given().auth().oauth2(token).when().delete(ADMIN_PATH).then().statusCode(401);
+    }
+
+    @Test
+    void storedIdentity_DoesNotKeepRequestContext() {
+        JsonWebToken jwt = mock(JsonWebToken.class);
+        when(jwt.getExpirationTime()).thenReturn(System.currentTimeMillis() / 1000 + 300);
+        SecurityIdentity identity = QuarkusSecurityIdentity.builder()
+                .setPrincipal(jwt)
+                .addRole("admin")
+                .addAttribute(RoutingContext.class.getName(), mock(RoutingContext.class))
+                .addAttribute("tenant-id", "Default")
+                .build();
+
+        tokenCache.store("token", identity);
+        SecurityIdentity cached = tokenCache.lookup("token");
+
+        assertNull(cached.getAttribute(RoutingContext.class.getName()));
+        assertEquals("Default", cached.getAttribute("tenant-id"));
+        assertTrue(cached.hasRole("admin"));
+        assertEquals(jwt, cached.getPrincipal());
+    }
+
+    private static String sign(PrivateKey key, long expiresInSeconds) {
+        long now = System.currentTimeMillis() / 1000;
+        return Jwt.upn("tester")
+                .groups("admin")
+                .issuedAt(now - Math.max(0, -expiresInSeconds) - 60)
+                .expiresAt(now + expiresInSeconds)
+                .sign(key);
+    }
+
+    private double hits() {
+        return registry.get("validaciones.autenticacion.cache").tag("resultado", "acierto").counter().count();
+    }
+
+    public static class TokenCacheProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("validation.auth.token-cache.enabled", "true");
+        }
+    }
+}
@@ -4,23 +4,38 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import com.banreservas.dtos.inbound.RequestDto;
 import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.exceptions.BackendBusinessException;
+import com.banreservas.exceptions.BackendTimeoutException;
+import com.banreservas.exceptions.BackendTransientException;
+import com.banreservas.services.implementations.AdaptiveConcurrencyLimiter;
+import com.banreservas.services.implementations.BackendEndpointBalancer;
+import com.banreservas.services.implementations.BackendHedgingPolicy;
+import com.banreservas.services.implementations.BackendRetryBudget;
+import com.banreservas.services.implementations.StaleValidationStore;
 import com.banreservas.services.implementations.ValidatesJointAccountsService;
+import com.banreservas.services.implementations.ValidationMetrics;
 import com.brrd.service.services.IValidarRequest;
 import com.brrd.service.services.ServiceResponse;
 import com.brrd.service.services.ValidarRequest;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.quarkus.test.junit.QuarkusTest;
 import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.xml.ws.WebServiceException;
 
 /**
  *
@@ -38,6 +53,24 @@ public class ValidatesJointAccountsServiceTest {
     @Mock
     private IValidarRequest validarRequest;
 
+    @Spy
+    private AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter();
+
+    @Spy
+    private BackendEndpointBalancer endpointBalancer = new BackendEndpointBalancer();
+
+    @Spy
+    private BackendRetryBudget retryBudget = new BackendRetryBudget();
+
+    @Spy
+    private BackendHedgingPolicy hedgingPolicy = new BackendHedgingPolicy();
+
+    @Spy
+    private StaleValidationStore staleValidationStore = new StaleValidationStore();
+
+    @Spy
+    private ValidationMetrics metrics = new ValidationMetrics(new SimpleMeterRegistry(), 50);
+
     private RequestDto mockRequest;
     private MultivaluedMap<String, String> mockHeaders;
 
@@ -102,6 +135,9 @@ public class ValidatesJointAccountsServiceTest {
 
         // Verificar que el cliente SOAP fue invocado una vez
         verify(validarRequest, times(1)).validar(any());
+
+        // La respuesta del backend queda como último resultado conocido
+        verify(staleValidationStore).record(mockRequest, mockHeaders, response);
     }
 
     @Test
@@ -150,4 +186,45 @@ public class ValidatesJointAccountsServiceTest {
         // Verificar que el cliente SOAP fue invocado una vez
         verify(validarRequest, times(1)).validar(any());
     }
+
+    @Test
+    void validateAccounts_ErrorFromSoap_IsBusinessRejection() throws Exception {
+        ServiceResponse mockSoapResponse = new ServiceResponse();
+        mockSoapResponse.setErrorCode("999");
+        mockSoapResponse.setErrorMessage("Error interno en el backend");
+
+        when(validarRequest.validar(any())).thenReturn(mockSoapResponse);
+
+        BackendBusinessException exception = assertThrows(BackendBusinessException.class,
+                () -> service.validateAccounts(mockRequest, mockHeaders).await().indefinitely());
+
+        assertEquals("999", exception.getErrorCode());
+        // Las fallas esperadas no capturan la traza de pila
+        assertEquals(0, exception.getStackTrace().length);
+        verify(staleValidationStore, never()).record(any(), any(), any());
+    }
+
+    @Test
+    void validateAccounts_TransportFailure_IsTransientAndKeepsCause() throws Exception {
+        ConnectException cause = new ConnectException("Connection refused");
+        when(validarRequest.validar(any())).thenThrow(new WebServiceException("Could not send Message.", cause));
+
+        BackendTransientException exception = assertThrows(BackendTransientException.class,
+                () -> service.validateAccounts(mockRequest, mockHeaders).await().indefinitely());
+
+        assertEquals("Could not send Message.", exception.getMessage());
+        assertSame(cause, exception.getCause().getCause());
+        // El reintento se consume antes de reintentar, no al clasificar la falla
+        verify(retryBudget, never()).tryAcquireRetry();
+    }
+
+    @Test
+    void validateAccounts_Timeout_IsNotTransient() throws Exception {
+        when(validarRequest.validar(any()))
+                .thenThrow(new WebServiceException("Read timed out", new SocketTimeoutException("Read timed out")));
+
+        assertThrows(BackendTimeoutException.class,
+                () -> service.validateAccounts(mockRequest, mockHeaders).await().indefinitely());
+        verify(retryBudget, never()).tryAcquireRetry();
+    }
 }
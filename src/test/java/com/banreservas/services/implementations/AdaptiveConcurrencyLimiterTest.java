@@ -0,0 +1,167 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.exceptions.BackendOverloadedException;
+import com.brrd.service.services.IValidarRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST_CALL = Duration.ofMillis(10).toNanos();
+
+    private static final long SLOW_CALL = Duration.ofMillis(500).toNanos();
+
+    private SimpleMeterRegistry registry;
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter();
+        limiter.enabled = true;
+        limiter.initialLimit = 4;
+        limiter.minLimit = 2;
+        limiter.maxLimit = 5;
+        limiter.latencyThreshold = Duration.ofMillis(100);
+        limiter.backoffRatio = 0.5;
+        limiter.retryAfter = Duration.ofSeconds(3);
+        limiter.registry = registry;
+        limiter.init();
+    }
+
+    @Test
+    void tryAcquire_AboveLimit_IsRejectedAndCounted() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(4, limiter.getInFlight());
+        assertEquals(1, registry.get("validaciones.limitador.rechazos").counter().count());
+    }
+
+    @Test
+    void fastSample_AtHighUtilization_IncreasesLimitAdditively() {
+        acquire(4);
+
+        limiter.release(FAST_CALL, false);
+
+        assertEquals(4.25, limiter.getLimit(), 1e-9);
+    }
+
+    @Test
+    void fastSample_AtLowUtilization_KeepsLimit() {
+        acquire(1);
+
+        limiter.release(FAST_CALL, false);
+
+        assertEquals(4, limiter.getLimit(), 1e-9);
+    }
+
+    @Test
+    void slowSample_DecreasesLimitMultiplicatively() {
+        acquire(1);
+
+        limiter.release(SLOW_CALL, false);
+
+        assertEquals(2, limiter.getLimit(), 1e-9);
+    }
+
+    @Test
+    void droppedCall_DecreasesLimitDownToMinimum() {
+        acquire(3);
+
+        limiter.release(FAST_CALL, true);
+        limiter.release(FAST_CALL, true);
+        limiter.release(FAST_CALL, true);
+
+        assertEquals(2, limiter.getLimit(), 1e-9);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void limit_NeverExceedsMaximum() {
+        for (int i = 0; i < 100; i++) {
+            acquire((int) limiter.getLimit());
+            for (int j = (int) limiter.getLimit(); j > 0; j--) {
+                limiter.release(FAST_CALL, false);
+            }
+        }
+
+        assertEquals(5, limiter.getLimit(), 1e-9);
+    }
+
+    @Test
+    void gauges_PublishLimitAndInFlight() {
+        acquire(3);
+        limiter.release(SLOW_CALL, false);
+
+        assertEquals(limiter.getLimit(), registry.get("validaciones.limitador.limite").gauge().value(), 1e-9);
+        assertEquals(2, registry.get("validaciones.limitador.en-curso").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void disabled_NeverRejects() {
+        limiter.enabled = false;
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void service_AtLimit_FailsWithOverloadedAndDoesNotCallBackend() throws Exception {
+        limiter.initialLimit = 1;
+        limiter.init();
+        acquire(1);
+
+        IValidarRequest validarRequest = mock(IValidarRequest.class);
+        ValidatesJointAccountsService service = new ValidatesJointAccountsService();
+        service._validarRequest = validarRequest;
+        service._concurrencyLimiter = limiter;
+        service._metrics = new ValidationMetrics(new SimpleMeterRegistry(), 50);
+        service._hedgingPolicy = new BackendHedgingPolicy();
+        service._endpointBalancer = new BackendEndpointBalancer();
+        service._retryBudget = new BackendRetryBudget();
+        service._staleValidationStore = new StaleValidationStore();
+
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle("id_consumidor", "testChannel");
+
+        BackendOverloadedException exception = assertThrows(BackendOverloadedException.class,
+                () -> service.validateAccounts(new RequestDto("0987654321", "1234567890"), headers)
+                        .await().indefinitely());
+
+        assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+        verify(validarRequest, never()).validar(any());
+    }
+
+    private void acquire(int calls) {
+        for (int i = 0; i < calls; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+    }
+}
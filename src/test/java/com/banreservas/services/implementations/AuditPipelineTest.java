@@ -0,0 +1,240 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.audit.AuditEventDto;
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.exceptions.ErrorLogLimiter;
+import com.banreservas.utils.defaults.AuditOverflowPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class AuditPipelineTest {
+
+    private final List<List<AuditEventDto>> batches = new CopyOnWriteArrayList<>();
+
+    private SimpleMeterRegistry registry;
+
+    private AuditPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+
+        ErrorLogLimiter errorLogLimiter = new ErrorLogLimiter();
+        errorLogLimiter.logInterval = Duration.ofSeconds(10);
+        errorLogLimiter.maxKeys = 10;
+        errorLogLimiter.registry = registry;
+        errorLogLimiter.init();
+
+        pipeline = new AuditPipeline();
+        pipeline.enabled = true;
+        pipeline.queueCapacity = 2;
+        pipeline.batchSize = 3;
+        pipeline.flushInterval = Duration.ofMillis(20);
+        pipeline.overflowPolicy = AuditOverflowPolicy.DROP;
+        pipeline.blockTimeout = Duration.ofMillis(50);
+        pipeline.auditSinkService = events -> batches.add(List.copyOf(events));
+        pipeline.errorLogLimiter = errorLogLimiter;
+        pipeline.registry = registry;
+        pipeline.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.onStop(null);
+    }
+
+    @Test
+    void submit_QueueFull_DropsEventAndReportsDepth() {
+        assertTrue(pipeline.submit(event()));
+        assertTrue(pipeline.submit(event()));
+
+        assertFalse(pipeline.submit(event()));
+
+        assertEquals(1, registry.get("validaciones.auditoria.descartados").counter().count());
+        assertEquals(2, registry.get("validaciones.auditoria.cola").gauge().value());
+    }
+
+    @Test
+    void submit_BlockPolicy_WaitsForRoom() throws Exception {
+        pipeline.overflowPolicy = AuditOverflowPolicy.BLOCK;
+        pipeline.blockTimeout = Duration.ofSeconds(5);
+        pipeline.submit(event());
+        pipeline.submit(event());
+
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> pipeline.submit(event()));
+        Thread.sleep(50);
+        assertFalse(blocked.isDone());
+
+        pipeline.drainBatch();
+
+        assertTrue(blocked.get(5, TimeUnit.SECONDS));
+        assertEquals(0, registry.get("validaciones.auditoria.descartados").counter().count());
+    }
+
+    @Test
+    void submit_BlockPolicy_DropsAfterTimeout() {
+        pipeline.overflowPolicy = AuditOverflowPolicy.BLOCK;
+        pipeline.submit(event());
+        pipeline.submit(event());
+
+        long start = System.nanoTime();
+        assertFalse(pipeline.submit(event()));
+
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+        assertEquals(1, registry.get("validaciones.auditoria.descartados").counter().count());
+    }
+
+    @Test
+    void drainer_SendsFullBatchesAndFlushesRemainder() {
+        pipeline.queueCapacity = 100;
+        for (int i = 0; i < 7; i++) {
+            pipeline.submit(event());
+        }
+
+        pipeline.onStart(null);
+
+        await(() -> registry.get("validaciones.auditoria.enviados").counter().count() == 7);
+        assertEquals(List.of(3, 3, 1), batches.stream().map(List::size).toList());
+        assertEquals(3, registry.get("validaciones.auditoria.lote").summary().count());
+        assertEquals(0, registry.get("validaciones.auditoria.cola").gauge().value());
+    }
+
+    @Test
+    void drainer_PartialBatch_IsSentWithinFlushInterval() {
+        pipeline.batchSize = 100;
+        pipeline.onStart(null);
+
+        pipeline.submit(event());
+
+        await(() -> batches.size() == 1);
+        assertEquals(1, batches.get(0).size());
+    }
+
+    @Test
+    void sinkFailure_CountsLostEventsAndKeepsDraining() {
+        AtomicInteger calls = new AtomicInteger();
+        pipeline.auditSinkService = events -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new IllegalStateException("destino no disponible");
+            }
+            batches.add(List.copyOf(events));
+        };
+        pipeline.submit(event());
+        pipeline.submit(event());
+
+        pipeline.drainBatch();
+        pipeline.submit(event());
+        pipeline.drainBatch();
+
+        assertEquals(2, registry.get("validaciones.auditoria.fallidos").counter().count());
+        assertEquals(1, registry.get("validaciones.auditoria.enviados").counter().count());
+        assertEquals(1, registry.get("validaciones.errores").tag("tipo", "IllegalStateException").counter()
+                .count());
+    }
+
+    @Test
+    void onStop_SendsPendingEvents() {
+        pipeline.queueCapacity = 100;
+        pipeline.flushInterval = Duration.ofSeconds(10);
+        pipeline.onStart(null);
+        await(() -> pipeline.drainer.getState() == Thread.State.TIMED_WAITING);
+        for (int i = 0; i < 5; i++) {
+            pipeline.submit(event());
+        }
+
+        pipeline.onStop(null);
+
+        assertFalse(pipeline.drainer.isAlive());
+        assertEquals(5, registry.get("validaciones.auditoria.enviados").counter().count());
+    }
+
+    @Test
+    void onStop_BusySink_IsNotCalledConcurrently() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        pipeline.queueCapacity = 100;
+        pipeline.batchSize = 1;
+        pipeline.flushInterval = Duration.ofMillis(5);
+        pipeline.auditSinkService = events -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                release.await();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        };
+        pipeline.submit(event());
+        pipeline.submit(event());
+        pipeline.onStart(null);
+        await(() -> concurrent.get() == 1);
+
+        pipeline.onStop(null);
+
+        assertEquals(1, maxConcurrent.get());
+        release.countDown();
+    }
+
+    @Test
+    void submitFromHeaders_MasksAccounts() {
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle("sessionId", "test-session");
+        headers.putSingle("operacion", "lote");
+
+        pipeline.submit(headers, new RequestDto("9600000012", "1234567890"), 200, "exitoso", Boolean.TRUE,
+                System.nanoTime());
+        pipeline.drainBatch();
+
+        AuditEventDto event = batches.get(0).get(0);
+        assertEquals("******0012", event.originAccount());
+        assertEquals("******7890", event.destinyAccount());
+        assertEquals("test-session", event.sessionId());
+        assertEquals("lote", event.operation());
+        assertEquals(200, event.responseCode());
+    }
+
+    private static AuditEventDto event() {
+        return new AuditEventDto(System.currentTimeMillis(), "test-session", "test-consumer", "test-user",
+                "test-terminal", "test-operation", "2025-01-28T12:00:00", "******0012", "******7890", 200,
+                "exitoso", Boolean.TRUE, 1.0);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,276 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.services.implementations.BackendEndpointBalancer.Endpoint;
+import com.banreservas.utils.defaults.BalancingPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class BackendEndpointBalancerTest {
+
+    private static final long FAST_CALL = Duration.ofMillis(10).toNanos();
+
+    private final AtomicLong nanos = new AtomicLong(Duration.ofHours(1).toNanos());
+
+    private SimpleMeterRegistry registry;
+
+    private BackendEndpointBalancer balancer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        balancer = new BackendEndpointBalancer();
+        balancer.policy = BalancingPolicy.LEAST_OUTSTANDING;
+        balancer.consecutiveFailures = 3;
+        balancer.latencyFactor = 3;
+        balancer.minSamples = 5;
+        balancer.baseEjectionTime = Duration.ofSeconds(30);
+        balancer.rampUp = Duration.ofSeconds(30);
+        balancer.maxEjectionPercent = 50;
+        balancer.registry = registry;
+        balancer.clock = nanos::get;
+    }
+
+    @Test
+    void leastOutstanding_PicksEndpointWithFewestCallsInFlight() {
+        init("http://nodo1:9082/validar", "http://nodo2:9082/validar", "http://nodo3:9082/validar");
+
+        List<Endpoint> selected = List.of(balancer.select(), balancer.select(), balancer.select());
+        for (Endpoint endpoint : balancer.getEndpoints()) {
+            assertEquals(1, endpoint.getOutstanding());
+        }
+
+        Endpoint freed = selected.get(1);
+        balancer.release(freed, FAST_CALL, false);
+
+        assertSame(freed, balancer.select());
+    }
+
+    @Test
+    void powerOfTwo_TwoEndpoints_KeepsLoadBalanced() {
+        balancer.policy = BalancingPolicy.POWER_OF_TWO;
+        init("http://nodo1:9082/validar", "http://nodo2:9082/validar");
+
+        for (int i = 0; i < 100; i++) {
+            balancer.select();
+            Endpoint first = endpoint(0);
+            Endpoint second = endpoint(1);
+            assertTrue(Math.abs(first.getOutstanding() - second.getOutstanding()) <= 1);
+        }
+    }
+
+    @Test
+    void powerOfTwo_NeverPicksTheMostLoadedEndpoint() {
+        balancer.policy = BalancingPolicy.POWER_OF_TWO;
+        init("http://nodo1:9082/validar", "http://nodo2:9082/validar", "http://nodo3:9082/validar");
+
+        // Se dejan 10 llamadas en curso en el primer endpoint y ninguna en los demás
+        Endpoint loaded = endpoint(0);
+        List<Endpoint> selections = new ArrayList<>();
+        for (int i = 0; i < 10_000 && loaded.getOutstanding() < 10; i++) {
+            selections.add(balancer.select());
+        }
+        selections.stream().filter(selected -> selected != loaded).forEach(balancer::cancel);
+        assertEquals(10, loaded.getOutstanding());
+
+        for (int i = 0; i < 200; i++) {
+            Endpoint selected = balancer.select();
+            assertNotSame(loaded, selected);
+            balancer.cancel(selected);
+        }
+    }
+
+    @Test
+    void consecutiveFailures_EjectEndpoint() {
+        init("http://nodo1:9082/validar", "http://nodo2:9082/validar");
+        Endpoint failing = endpoint(0);
+
+        fail(failing, 3);
+
+        for (int i = 0; i < 100; i++) {
+            Endpoint selected = balancer.select();
+            assertNotSame(failing, selected);
+            balancer.cancel(selected);
+        }
+        assertEquals(1, registry.get("validaciones.backend.endpoint.expulsiones").tag("endpoint", "nodo1:9082/validar")
+                .counter().count());
+        assertEquals(1, registry.get("validaciones.backend.endpoint.expulsado").tag("endpoint", "nodo1:9082/validar")
+                .gauge().value());
+    }
+
+    @Test
+    void successBetweenFailures_ResetsConsecutiveCount() {
+        init("http://nodo1:9082/validar", "http://nodo2:9082/validar");
+        Endpoint failing = endpoint(0);
+
+        fail(failing, 2);
+        balancer.release(select(failing), FAST_CALL, false);
+        fail(failing, 2);
+
+        assertEquals(0, registry.get("validaciones.backend.endpoint.expulsiones").tag("endpoint", "nodo1:9082/validar")
+                .counter().count());
+    }
+
+    @Test
+    void maxEjectionPercent_KeepsEndpointsAvailable() {
+        init("http://nodo1:9082/validar", "http://nodo2:9082/validar");
+
+        fail(endpoint(0), 3);
+        fail(endpoint(1), 3);
+
+        // Solo la mitad de los endpoints puede estar expulsada
+        assertEquals(1, registry.get("validaciones.backend.endpoint.expulsiones").tag("endpoint", "nodo2:9082/validar")
+                .counter().count() + registry.get("validaciones.backend.endpoint.expulsiones")
+                        .tag("endpoint", "nodo1:9082/validar").counter().count());
+    }
+
+    @Test
+    void ejectedEndpoint_IsReadmittedAfterEjectionAndRampUp() {
+        init("http://nodo1:9082/validar", "http://nodo2:9082/validar");
+        Endpoint failing = endpoint(0);
+        fail(failing, 3);
+        Endpoint healthy = endpoint(1);
+        balancer.select();
+
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos() + Duration.ofSeconds(30).toNanos());
+
+        // Con el ramp-up terminado gana por tener menos llamadas en curso
+        assertEquals(1, healthy.getOutstanding());
+        assertSame(failing, balancer.select());
+        assertEquals(0, registry.get("validaciones.backend.endpoint.expulsado").tag("endpoint", "nodo1:9082/validar")
+                .gauge().value());
+    }
+
+    @Test
+    void rampUp_AdmitsGrowingShareOfTraffic() {
+        init("http://nodo1:9082/validar", "http://nodo2:9082/validar");
+        Endpoint failing = endpoint(0);
+        fail(failing, 3);
+        // Mientras está expulsado, todo el tráfico va al otro endpoint
+        for (int i = 0; i < 5; i++) {
+            balancer.select();
+        }
+
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+        double atStart = shareOf(failing, 2000);
+
+        nanos.addAndGet(Duration.ofSeconds(15).toNanos());
+        double atMiddle = shareOf(failing, 2000);
+
+        assertTrue(atStart < 0.05, "share at start of ramp-up: " + atStart);
+        assertTrue(atMiddle > 0.4 && atMiddle < 0.6, "share at middle of ramp-up: " + atMiddle);
+    }
+
+    @Test
+    void latencyOutlier_IsEjected() {
+        init("http://nodo1:9082/validar", "http://nodo2:9082/validar", "http://nodo3:9082/validar",
+                "http://nodo4:9082/validar");
+        for (int i = 0; i < 5; i++) {
+            balancer.release(select(endpoint(1)), FAST_CALL, false);
+            balancer.release(select(endpoint(2)), FAST_CALL, false);
+            balancer.release(select(endpoint(3)), FAST_CALL, false);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            balancer.release(select(endpoint(0)), FAST_CALL * 10, false);
+        }
+
+        assertEquals(1, registry.get("validaciones.backend.endpoint.expulsiones").tag("endpoint", "nodo1:9082/validar")
+                .counter().count());
+    }
+
+    @Test
+    void cancelledCall_FreesSlotWithoutRecordingSample() {
+        init("http://nodo1:9082/validar", "http://nodo2:9082/validar");
+        Endpoint endpoint = endpoint(0);
+
+        fail(endpoint, 2);
+        Endpoint selected = select(endpoint);
+        balancer.cancel(selected);
+
+        assertEquals(0, endpoint.getOutstanding());
+        assertEquals(2, registry.get("validaciones.backend.endpoint.latencia").tag("endpoint", "nodo1:9082/validar")
+                .timer().count());
+        // La cancelación no cuenta como falla ni reinicia la racha
+        fail(endpoint, 1);
+        assertEquals(1, registry.get("validaciones.backend.endpoint.expulsiones").tag("endpoint", "nodo1:9082/validar")
+                .counter().count());
+    }
+
+    @Test
+    void endpointsOnSameHostAndPort_HaveSeparateMeters() {
+        init("http://nodo1:9082/v1/validar", "http://nodo1:9082/v2/validar");
+
+        fail(endpoint(0), 1);
+
+        assertEquals(1, registry.get("validaciones.backend.endpoint.errores")
+                .tag("endpoint", "nodo1:9082/v1/validar").counter().count());
+        assertEquals(0, registry.get("validaciones.backend.endpoint.errores")
+                .tag("endpoint", "nodo1:9082/v2/validar").counter().count());
+    }
+
+    private void init(String... urls) {
+        balancer.endpointUrls = Optional.of(List.of(urls));
+        balancer.init();
+    }
+
+    private Endpoint endpoint(int index) {
+        return balancer.getEndpoints().get(index);
+    }
+
+    /**
+     * Selecciona hasta obtener el endpoint indicado, liberando los demás.
+     */
+    private Endpoint select(Endpoint wanted) {
+        List<Endpoint> others = new ArrayList<>();
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                Endpoint selected = balancer.select();
+                if (selected == wanted) {
+                    return selected;
+                }
+                others.add(selected);
+            }
+            throw new AssertionError("No se seleccionó " + wanted.getUrl());
+        } finally {
+            others.forEach(balancer::cancel);
+        }
+    }
+
+    private void fail(Endpoint endpoint, int failures) {
+        for (int i = 0; i < failures; i++) {
+            balancer.release(select(endpoint), FAST_CALL, true);
+        }
+    }
+
+    private double shareOf(Endpoint endpoint, int calls) {
+        int hits = 0;
+        for (int i = 0; i < calls; i++) {
+            Endpoint selected = balancer.select();
+            if (selected == endpoint) {
+                hits++;
+            }
+            balancer.cancel(selected);
+        }
+        return (double) hits / calls;
+    }
+}
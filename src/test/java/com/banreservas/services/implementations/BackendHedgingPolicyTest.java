@@ -0,0 +1,106 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class BackendHedgingPolicyTest {
+
+    private SimpleMeterRegistry registry;
+
+    private BackendHedgingPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        policy = new BackendHedgingPolicy();
+        policy.enabled = true;
+        policy.delay = Duration.ofMillis(500);
+        policy.percentile = 0;
+        policy.budgetPercent = 50;
+        policy.budgetBurst = 2;
+        policy.registry = registry;
+        policy.init();
+    }
+
+    @Test
+    void tryAcquireHedge_SpendsInitialBurst() {
+        assertTrue(policy.tryAcquireHedge());
+        assertTrue(policy.tryAcquireHedge());
+        assertFalse(policy.tryAcquireHedge());
+
+        assertEquals(2, registry.get("validaciones.backend.coberturas.enviadas").counter().count());
+    }
+
+    @Test
+    void primaryCalls_RefillBudgetByPercent() {
+        policy.tryAcquireHedge();
+        policy.tryAcquireHedge();
+
+        // 50% por llamada: una cobertura cada dos llamadas originales
+        policy.onPrimaryCall();
+        assertFalse(policy.tryAcquireHedge());
+        policy.onPrimaryCall();
+        assertTrue(policy.tryAcquireHedge());
+    }
+
+    @Test
+    void budget_NeverExceedsBurst() {
+        for (int i = 0; i < 100; i++) {
+            policy.onPrimaryCall();
+        }
+
+        assertTrue(policy.tryAcquireHedge());
+        assertTrue(policy.tryAcquireHedge());
+        assertFalse(policy.tryAcquireHedge());
+    }
+
+    @Test
+    void getHedgeDelay_WithoutPercentile_IsFixedDelay() {
+        for (int i = 0; i < 1024; i++) {
+            policy.recordLatency(Duration.ofMillis(10).toNanos());
+        }
+
+        assertEquals(Duration.ofMillis(500), policy.getHedgeDelay());
+    }
+
+    @Test
+    void getHedgeDelay_WithPercentile_FollowsRecentLatencies() {
+        policy.percentile = 0.9;
+
+        // Antes de la primera muestra completa se usa el umbral fijo
+        policy.recordLatency(Duration.ofMillis(1).toNanos());
+        assertEquals(Duration.ofMillis(500), policy.getHedgeDelay());
+
+        for (int i = 1; i < 128; i++) {
+            policy.recordLatency(Duration.ofMillis(i < 120 ? 10 : 200).toNanos());
+        }
+
+        assertEquals(Duration.ofMillis(10), policy.getHedgeDelay());
+
+        for (int i = 0; i < 128; i++) {
+            policy.recordLatency(Duration.ofMillis(200).toNanos());
+        }
+
+        assertEquals(Duration.ofMillis(200), policy.getHedgeDelay());
+    }
+
+    @Test
+    void recordWin_IsCounted() {
+        policy.recordWin();
+
+        assertEquals(1, registry.get("validaciones.backend.coberturas.ganadas").counter().count());
+    }
+}
@@ -0,0 +1,108 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.net.ConnectException;
+
+import org.eclipse.microprofile.faulttolerance.ExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.exceptions.BackendTransientException;
+import com.banreservas.exceptions.RetryBudgetExhaustedException;
+import com.brrd.service.services.IValidarRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.xml.ws.WebServiceException;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class BackendRetryHandlerTest {
+
+    private static final BackendTransientException FAILURE = new BackendTransientException("Could not send Message.",
+            new WebServiceException("Could not send Message.", new ConnectException("Connection refused")));
+
+    private SimpleMeterRegistry registry;
+
+    private BackendRetryBudget retryBudget;
+
+    private BackendRetryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+
+        retryBudget = new BackendRetryBudget();
+        retryBudget.budgetRatio = 0.5;
+        retryBudget.maxTokens = 1;
+        retryBudget.registry = registry;
+        retryBudget.init();
+
+        handler = new BackendRetryHandler();
+        handler.metrics = new ValidationMetrics(registry, 50);
+        handler.retryBudget = retryBudget;
+    }
+
+    @Test
+    void handle_WithBudget_SpendsTokenAndLetsRetryThrough() {
+        RequestDto request = new RequestDto("0987654321", "1234567890");
+
+        handler.handle(context(request));
+
+        assertNull(retryBudget.takeDeniedRetry(request));
+        assertEquals(1, registry.get(ValidationMetrics.RETRY_COUNTER).counter().count());
+        // El único token se consumió: el siguiente reintento ya no tiene presupuesto
+        assertFalse(retryBudget.tryAcquireRetry());
+    }
+
+    @Test
+    void handle_BudgetExhausted_NextAttemptFailsWithoutCallingBackend() throws Exception {
+        RequestDto request = new RequestDto("0987654321", "1234567890");
+        retryBudget.tryAcquireRetry();
+
+        handler.handle(context(request));
+
+        IValidarRequest validarRequest = mock(IValidarRequest.class);
+        ValidatesJointAccountsService service = new ValidatesJointAccountsService();
+        service._validarRequest = validarRequest;
+        service._retryBudget = retryBudget;
+
+        RetryBudgetExhaustedException exception = assertThrows(RetryBudgetExhaustedException.class,
+                () -> service.validateAccounts(request, new MultivaluedHashMap<>()).await().indefinitely());
+        assertEquals(FAILURE.getMessage(), exception.getMessage());
+        assertSame(FAILURE.getCause(), exception.getCause());
+        verifyNoInteractions(validarRequest);
+        assertEquals(1, registry.get("validaciones.backend.reintentos.descartados").counter().count());
+        // La marca se consume: otra solicitud con el mismo par no se ve afectada
+        assertNull(retryBudget.takeDeniedRetry(request));
+    }
+
+    @Test
+    void handle_MarksOnlyTheRetriedRequest() {
+        RequestDto retried = new RequestDto("0987654321", "1234567890");
+        RequestDto other = new RequestDto("0987654321", "1234567890");
+        retryBudget.tryAcquireRetry();
+
+        handler.handle(context(retried));
+
+        assertNull(retryBudget.takeDeniedRetry(other));
+        assertSame(FAILURE, retryBudget.takeDeniedRetry(retried));
+    }
+
+    private static ExecutionContext context(RequestDto request) {
+        ExecutionContext context = mock(ExecutionContext.class);
+        when(context.getParameters()).thenReturn(new Object[] { request, new MultivaluedHashMap<String, String>() });
+        when(context.getFailure()).thenReturn(FAILURE);
+        return context;
+    }
+}
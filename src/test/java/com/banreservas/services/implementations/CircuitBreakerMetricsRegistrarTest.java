@@ -0,0 +1,45 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.resources.CircuitBreakerMaintenanceMock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.faulttolerance.api.CircuitBreakerState;
+import jakarta.inject.Inject;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class CircuitBreakerMetricsRegistrarTest {
+
+    @Inject
+    CircuitBreakerMaintenanceMock circuitBreakerMaintenance;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Test
+    void stateChange_IsCountedByState() {
+        double before = stateChanges("OPEN");
+
+        circuitBreakerMaintenance.changeState(ValidatesJointAccountsService.CIRCUIT_BREAKER_NAME,
+                CircuitBreakerState.OPEN);
+
+        assertEquals(before + 1, stateChanges("OPEN"));
+    }
+
+    private double stateChanges(String state) {
+        Counter counter = registry.find(ValidationMetrics.CIRCUIT_BREAKER_COUNTER).tag("estado", state).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
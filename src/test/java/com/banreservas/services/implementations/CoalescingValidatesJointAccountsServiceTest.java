@@ -0,0 +1,164 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.exceptions.BackendTransientException;
+import com.banreservas.services.contracts.IValidatesJointAccountsService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class CoalescingValidatesJointAccountsServiceTest {
+
+    private static final RequestDto REQUEST = new RequestDto("0987654321", "1234567890");
+
+    private final List<UniEmitter<? super ResponseValidatesJointAccountsDto>> backendCalls = new ArrayList<>();
+
+    private SimpleMeterRegistry registry;
+
+    private IValidatesJointAccountsService delegate;
+
+    private CoalescingValidatesJointAccountsService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new SimpleMeterRegistry();
+        delegate = mock(IValidatesJointAccountsService.class);
+        // Cada llamada al backend queda pendiente hasta que la prueba la completa
+        when(delegate.validateAccounts(any(), any()))
+                .thenAnswer(invocation -> Uni.createFrom().emitter(backendCalls::add));
+
+        service = new CoalescingValidatesJointAccountsService();
+        service.delegate = delegate;
+        service.enabled = true;
+        service.registry = registry;
+        service.init();
+    }
+
+    @Test
+    void identicalRequests_ShareOneBackendCall() throws Exception {
+        UniAssertSubscriber<ResponseValidatesJointAccountsDto> first = subscribe(headers("2025-01-28T10:15:30"));
+        UniAssertSubscriber<ResponseValidatesJointAccountsDto> second = subscribe(headers("2025-01-28T10:15:30"));
+
+        assertEquals(1, backendCalls.size());
+        backendCalls.get(0).complete(new ResponseValidatesJointAccountsDto(true));
+
+        assertTrue(first.assertCompleted().getItem().isValidProduct());
+        assertTrue(second.assertCompleted().getItem().isValidProduct());
+        assertEquals(1, coalescedCalls());
+        assertTrue(service.inFlight.isEmpty());
+    }
+
+    @Test
+    void sharedFailure_IsDeliveredToEveryWaiter() throws Exception {
+        UniAssertSubscriber<ResponseValidatesJointAccountsDto> first = subscribe(headers("2025-01-28T10:15:30"));
+        UniAssertSubscriber<ResponseValidatesJointAccountsDto> second = subscribe(headers("2025-01-28T10:15:30"));
+
+        BackendTransientException failure = new BackendTransientException("Connection refused", null);
+        backendCalls.get(0).fail(failure);
+
+        assertSame(failure, first.assertFailedWith(BackendTransientException.class).getFailure());
+        assertSame(failure, second.assertFailedWith(BackendTransientException.class).getFailure());
+        assertTrue(service.inFlight.isEmpty());
+    }
+
+    @Test
+    void differentBackendHeaders_AreNotCoalesced() throws Exception {
+        subscribe(headers("2025-01-28T10:15:30"));
+        MultivaluedMap<String, String> otherUser = headers("2025-01-28T10:15:30");
+        otherUser.putSingle("usuario", "otherUser");
+        subscribe(otherUser);
+        subscribe(headers("2025-01-28T10:15:31"));
+
+        assertEquals(3, backendCalls.size());
+        assertEquals(0, coalescedCalls());
+    }
+
+    @Test
+    void completedCall_IsNotReused() throws Exception {
+        subscribe(headers("2025-01-28T10:15:30"));
+        backendCalls.get(0).complete(new ResponseValidatesJointAccountsDto(true));
+
+        subscribe(headers("2025-01-28T10:15:30"));
+
+        assertEquals(2, backendCalls.size());
+        assertEquals(0, coalescedCalls());
+    }
+
+    @Test
+    void cancelledWaiter_KeepsCallForRemainingWaiters() throws Exception {
+        UniAssertSubscriber<ResponseValidatesJointAccountsDto> first = subscribe(headers("2025-01-28T10:15:30"));
+        UniAssertSubscriber<ResponseValidatesJointAccountsDto> second = subscribe(headers("2025-01-28T10:15:30"));
+
+        first.cancel();
+
+        assertEquals(1, service.inFlight.size());
+        backendCalls.get(0).complete(new ResponseValidatesJointAccountsDto(false));
+        assertFalse(second.assertCompleted().getItem().isValidProduct());
+        assertTrue(service.inFlight.isEmpty());
+    }
+
+    @Test
+    void allWaitersCancelled_RemovesCall() throws Exception {
+        UniAssertSubscriber<ResponseValidatesJointAccountsDto> first = subscribe(headers("2025-01-28T10:15:30"));
+        UniAssertSubscriber<ResponseValidatesJointAccountsDto> second = subscribe(headers("2025-01-28T10:15:30"));
+
+        first.cancel();
+        second.cancel();
+
+        assertTrue(service.inFlight.isEmpty());
+        subscribe(headers("2025-01-28T10:15:30"));
+        assertEquals(2, backendCalls.size());
+    }
+
+    @Test
+    void disabled_CallsBackendForEveryRequest() throws Exception {
+        service.enabled = false;
+
+        subscribe(headers("2025-01-28T10:15:30"));
+        subscribe(headers("2025-01-28T10:15:30"));
+
+        assertEquals(2, backendCalls.size());
+        assertTrue(service.inFlight.isEmpty());
+    }
+
+    private UniAssertSubscriber<ResponseValidatesJointAccountsDto> subscribe(MultivaluedMap<String, String> headers)
+            throws Exception {
+        return service.validateAccounts(REQUEST, headers).subscribe().withSubscriber(UniAssertSubscriber.create());
+    }
+
+    private double coalescedCalls() {
+        return registry.get(CoalescingValidatesJointAccountsService.COALESCED_CALLS_METRIC).counter().count();
+    }
+
+    private static MultivaluedMap<String, String> headers(String dateTime) {
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle("id_consumidor", "testChannel");
+        headers.putSingle("fecha_hora", dateTime);
+        headers.putSingle("operacion", "testOperation");
+        headers.putSingle("terminal", "testTerminal");
+        headers.putSingle("usuario", "testUser");
+        return headers;
+    }
+}
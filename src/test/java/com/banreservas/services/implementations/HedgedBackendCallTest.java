@@ -0,0 +1,300 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.exceptions.BackendTransientException;
+import com.banreservas.utils.defaults.BackendInvocationMode;
+import com.brrd.service.services.IValidarRequest;
+import com.brrd.service.services.ServiceResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.xml.ws.AsyncHandler;
+import jakarta.xml.ws.Response;
+import jakarta.xml.ws.WebServiceException;
+
+/**
+ * Carrera entre la llamada original al backend y su cobertura, y ocupación
+ * del limitador cuando se cancela una llamada bloqueante.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class HedgedBackendCallTest {
+
+    private final List<AsyncHandler<ServiceResponse>> handlers = new CopyOnWriteArrayList<>();
+
+    private final List<CompletableFuture<ServiceResponse>> invocations = new CopyOnWriteArrayList<>();
+
+    private SimpleMeterRegistry registry;
+
+    private IValidarRequest validarRequest;
+
+    private BackendHedgingPolicy hedgingPolicy;
+
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    private ValidatesJointAccountsService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+
+        validarRequest = mock(IValidarRequest.class);
+        // Cada llamada asíncrona queda pendiente hasta que la prueba responde por su callback
+        when(validarRequest.validarAsync(any(), any())).thenAnswer(invocation -> {
+            handlers.add(invocation.getArgument(1, AsyncHandler.class));
+            CompletableFuture<ServiceResponse> pending = new CompletableFuture<>();
+            invocations.add(pending);
+            return pending;
+        });
+
+        hedgingPolicy = new BackendHedgingPolicy();
+        hedgingPolicy.enabled = true;
+        hedgingPolicy.delay = Duration.ofMillis(20);
+        hedgingPolicy.budgetPercent = 100;
+        hedgingPolicy.budgetBurst = 10;
+        hedgingPolicy.registry = registry;
+        hedgingPolicy.init();
+
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter();
+        concurrencyLimiter.enabled = true;
+        concurrencyLimiter.initialLimit = 10;
+        concurrencyLimiter.minLimit = 1;
+        concurrencyLimiter.maxLimit = 10;
+        concurrencyLimiter.latencyThreshold = Duration.ofSeconds(2);
+        concurrencyLimiter.backoffRatio = 0.9;
+        concurrencyLimiter.retryAfter = Duration.ofSeconds(1);
+        concurrencyLimiter.registry = registry;
+        concurrencyLimiter.init();
+
+        BackendRetryBudget retryBudget = new BackendRetryBudget();
+        retryBudget.budgetRatio = 0.1;
+        retryBudget.maxTokens = 10;
+        retryBudget.registry = registry;
+        retryBudget.init();
+
+        service = new ValidatesJointAccountsService();
+        service._validarRequest = validarRequest;
+        service._concurrencyLimiter = concurrencyLimiter;
+        service._metrics = new ValidationMetrics(registry, 50);
+        service._hedgingPolicy = hedgingPolicy;
+        service._endpointBalancer = new BackendEndpointBalancer();
+        service._retryBudget = retryBudget;
+        service._staleValidationStore = new StaleValidationStore();
+        service.invocationMode = BackendInvocationMode.ASYNC;
+    }
+
+    @Test
+    void primaryAnswersFirst_HedgeIsCancelled() throws Exception {
+        CompletableFuture<ResponseValidatesJointAccountsDto> result = validate();
+        awaitCalls(2);
+
+        handlers.get(0).handleResponse(success());
+
+        assertTrue(result.get(5, TimeUnit.SECONDS).isValidProduct());
+        assertTrue(invocations.get(1).isCancelled());
+        assertEquals(0, hedgesWon());
+    }
+
+    @Test
+    void hedgeAnswersFirst_PrimaryIsCancelled() throws Exception {
+        CompletableFuture<ResponseValidatesJointAccountsDto> result = validate();
+        awaitCalls(2);
+
+        handlers.get(1).handleResponse(success());
+
+        assertTrue(result.get(5, TimeUnit.SECONDS).isValidProduct());
+        assertTrue(invocations.get(0).isCancelled());
+        assertEquals(1, hedgesWon());
+    }
+
+    @Test
+    void primaryFailsWhileHedgeInFlight_WaitsForHedge() throws Exception {
+        CompletableFuture<ResponseValidatesJointAccountsDto> result = validate();
+        awaitCalls(2);
+
+        handlers.get(0).handleResponse(failure("primaria"));
+        Thread.sleep(50);
+        assertFalse(result.isDone());
+
+        handlers.get(1).handleResponse(success());
+
+        assertTrue(result.get(5, TimeUnit.SECONDS).isValidProduct());
+        assertEquals(1, hedgesWon());
+    }
+
+    @Test
+    void bothFail_FailsWithPrimaryFailure() throws Exception {
+        CompletableFuture<ResponseValidatesJointAccountsDto> result = validate();
+        awaitCalls(2);
+
+        handlers.get(0).handleResponse(failure("primaria"));
+        handlers.get(1).handleResponse(failure("cobertura"));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BackendTransientException.class, exception.getCause());
+        assertEquals("primaria", exception.getCause().getMessage());
+    }
+
+    @Test
+    void primaryFailsBeforeHedgeIsSent_FailsWithoutHedge() throws Exception {
+        hedgingPolicy.delay = Duration.ofSeconds(10);
+
+        CompletableFuture<ResponseValidatesJointAccountsDto> result = validate();
+        awaitCalls(1);
+        handlers.get(0).handleResponse(failure("primaria"));
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BackendTransientException.class, exception.getCause());
+        assertEquals(1, handlers.size());
+        assertEquals(0, hedgesSent());
+    }
+
+    @Test
+    void failedCall_IsNotALatencySample() throws Exception {
+        hedgingPolicy.delay = Duration.ofSeconds(10);
+        BackendHedgingPolicy policy = spy(hedgingPolicy);
+        service._hedgingPolicy = policy;
+
+        CompletableFuture<ResponseValidatesJointAccountsDto> failed = validate();
+        awaitCalls(1);
+        handlers.get(0).handleResponse(failure("primaria"));
+        assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        verify(policy, never()).recordLatency(anyLong());
+
+        CompletableFuture<ResponseValidatesJointAccountsDto> answered = validate();
+        awaitCalls(2);
+        handlers.get(1).handleResponse(success());
+        assertTrue(answered.get(5, TimeUnit.SECONDS).isValidProduct());
+        verify(policy).recordLatency(anyLong());
+    }
+
+    @Test
+    void exhaustedBudget_NoHedgeIsSent() throws Exception {
+        while (hedgingPolicy.tryAcquireHedge()) {
+            // Se agota la ráfaga inicial
+        }
+        hedgingPolicy.budgetPercent = 0;
+
+        CompletableFuture<ResponseValidatesJointAccountsDto> result = validate();
+        awaitCalls(1);
+        Thread.sleep(100);
+        assertEquals(1, handlers.size());
+
+        handlers.get(0).handleResponse(success());
+        assertTrue(result.get(5, TimeUnit.SECONDS).isValidProduct());
+    }
+
+    @Test
+    void cancelledBlockingCall_HoldsLimiterUntilBackendReturns() throws Exception {
+        CountDownLatch backendReturns = new CountDownLatch(1);
+        when(validarRequest.validar(any())).thenAnswer(invocation -> {
+            backendReturns.await();
+            return successResponse();
+        });
+        hedgingPolicy.enabled = false;
+        service.invocationMode = BackendInvocationMode.BLOCKING;
+
+        CompletableFuture<ResponseValidatesJointAccountsDto> result = validate();
+        verify(validarRequest, timeout(5000)).validar(any());
+        result.cancel(true);
+
+        // El hilo sigue bloqueado en el backend: el lugar no se libera
+        Thread.sleep(50);
+        assertEquals(1, concurrencyLimiter.getInFlight());
+
+        backendReturns.countDown();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (concurrencyLimiter.getInFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, concurrencyLimiter.getInFlight());
+    }
+
+    @Test
+    void cancelledAsyncCall_ReleasesLimiterWithoutSample() throws Exception {
+        hedgingPolicy.enabled = false;
+        double limitBefore = concurrencyLimiter.getLimit();
+
+        CompletableFuture<ResponseValidatesJointAccountsDto> result = validate();
+        awaitCalls(1);
+        result.cancel(true);
+
+        assertTrue(invocations.get(0).isCancelled());
+        assertEquals(0, concurrencyLimiter.getInFlight());
+        assertEquals(limitBefore, concurrencyLimiter.getLimit());
+    }
+
+    private CompletableFuture<ResponseValidatesJointAccountsDto> validate() throws Exception {
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle("id_consumidor", "testChannel");
+        headers.putSingle("operacion", "testOperation");
+        return service.validateAccounts(new RequestDto("0987654321", "1234567890"), headers)
+                .subscribeAsCompletionStage();
+    }
+
+    private void awaitCalls(int calls) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (handlers.size() < calls && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(calls, handlers.size());
+    }
+
+    private double hedgesWon() {
+        return registry.get("validaciones.backend.coberturas.ganadas").counter().count();
+    }
+
+    private double hedgesSent() {
+        return registry.get("validaciones.backend.coberturas.enviadas").counter().count();
+    }
+
+    private static ServiceResponse successResponse() {
+        ServiceResponse response = new ServiceResponse();
+        response.setErrorCode("000");
+        response.setXMLReresponse(
+                "<ProductoValidos><ProductoValido><Resultado>TRUE</Resultado></ProductoValido></ProductoValidos>");
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Response<ServiceResponse> success() throws Exception {
+        Response<ServiceResponse> response = mock(Response.class);
+        when(response.get()).thenReturn(successResponse());
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Response<ServiceResponse> failure(String message) throws Exception {
+        Response<ServiceResponse> response = mock(Response.class);
+        when(response.get()).thenThrow(new ExecutionException(
+                new WebServiceException(message, new ConnectException("Connection refused"))));
+        return response;
+    }
+}
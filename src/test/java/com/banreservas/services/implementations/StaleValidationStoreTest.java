@@ -0,0 +1,188 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.exceptions.BackendTransientException;
+import com.banreservas.services.contracts.IValidatesJointAccountsService;
+import com.banreservas.utils.AccountPairKey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class StaleValidationStoreTest {
+
+    private static final RequestDto REQUEST = new RequestDto("0987654321", "1234567890");
+
+    private static final RequestDto OTHER_REQUEST = new RequestDto("1111111111", "2222222222");
+
+    private static final String ORIGINAL_DATE_TIME = "2025-01-28T10:15:30";
+
+    private final AtomicLong nanos = new AtomicLong(Duration.ofHours(1).toNanos());
+
+    private SimpleMeterRegistry registry;
+
+    private IValidatesJointAccountsService backend;
+
+    private ValidationResultCache validationResultCache;
+
+    private StaleValidationStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new SimpleMeterRegistry();
+        backend = mock(IValidatesJointAccountsService.class);
+        // Como el servicio real, el backend simulado registra su respuesta
+        when(backend.validateAccounts(any(), any())).thenAnswer(invocation -> {
+            ResponseValidatesJointAccountsDto result = new ResponseValidatesJointAccountsDto(false);
+            store.record(invocation.getArgument(0), invocation.getArgument(1), result);
+            return Uni.createFrom().item(result);
+        });
+        validationResultCache = mock(ValidationResultCache.class);
+
+        store = new StaleValidationStore();
+        store.enabled = true;
+        store.maxSize = 100;
+        store.defaultMaxStaleness = Duration.ofMinutes(10);
+        store.maxStalenessByOperation = Optional.of(List.of("transferencia=PT2M"));
+        store.refreshConcurrency = 4;
+        store.refreshInterval = Duration.ofSeconds(5);
+        store.validatesJointAccountsService = backend;
+        store.validationResultCache = validationResultCache;
+        store.registry = registry;
+        store.ticker = nanos::get;
+        store.init();
+    }
+
+    @Test
+    void lookup_WithinMaxStaleness_ReturnsResultAndAge() {
+        store.record(REQUEST, headers("consulta"), new ResponseValidatesJointAccountsDto(true));
+        advance(Duration.ofMinutes(3));
+
+        StaleValidationStore.StaleResult stale = store.lookup(REQUEST, "consulta").orElseThrow();
+
+        assertTrue(stale.result().isValidProduct());
+        assertEquals(Duration.ofMinutes(3), stale.age());
+        assertEquals(1, registry.get("validaciones.respuestas-obsoletas").counter().count());
+    }
+
+    @Test
+    void lookup_PastOperationMaxStaleness_ReturnsEmpty() {
+        store.record(REQUEST, headers("transferencia"), new ResponseValidatesJointAccountsDto(true));
+        advance(Duration.ofMinutes(3));
+
+        // La operación transferencia admite 2 minutos; las demás, el máximo general
+        assertTrue(store.lookup(REQUEST, "transferencia").isEmpty());
+        assertTrue(store.lookup(REQUEST, "consulta").isPresent());
+    }
+
+    @Test
+    void refreshPending_RevalidatesWithCurrentDateTime() throws Exception {
+        store.record(REQUEST, headers("consulta"), new ResponseValidatesJointAccountsDto(true));
+        advance(Duration.ofMinutes(3));
+        store.lookup(REQUEST, "consulta");
+
+        store.refreshPending();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MultivaluedMap<String, String>> sentHeaders = ArgumentCaptor.forClass(MultivaluedMap.class);
+        verify(backend).validateAccounts(any(), sentHeaders.capture());
+        // La revalidación no puede responderse desde el caché
+        verify(validationResultCache).invalidate(AccountPairKey.of(REQUEST));
+        assertNotEquals(ORIGINAL_DATE_TIME, sentHeaders.getValue().getFirst("fecha_hora"));
+        assertEquals("testUser", sentHeaders.getValue().getFirst("usuario"));
+
+        // El resultado revalidado reemplaza al anterior
+        StaleValidationStore.StaleResult stale = store.lookup(REQUEST, "consulta").orElseThrow();
+        assertFalse(stale.result().isValidProduct());
+        assertEquals(Duration.ZERO, stale.age());
+    }
+
+    @Test
+    void refreshPending_FailedRevalidation_IsNotRetried() throws Exception {
+        when(backend.validateAccounts(any(), any()))
+                .thenReturn(Uni.createFrom().failure(new BackendTransientException("Connection refused", null)));
+        store.record(REQUEST, headers("consulta"), new ResponseValidatesJointAccountsDto(true));
+        store.lookup(REQUEST, "consulta");
+
+        store.refreshPending();
+        store.refreshPending();
+
+        verify(backend, times(1)).validateAccounts(any(), any());
+    }
+
+    @Test
+    void refreshPending_PastMaxStaleness_IsDropped() throws Exception {
+        store.record(REQUEST, headers("transferencia"), new ResponseValidatesJointAccountsDto(true));
+        advance(Duration.ofMinutes(1));
+        store.lookup(REQUEST, "transferencia");
+        advance(Duration.ofMinutes(2));
+
+        store.refreshPending();
+        store.refreshPending();
+
+        verify(backend, never()).validateAccounts(any(), any());
+    }
+
+    @Test
+    void liveResponse_TriggersRefreshAtMostOncePerInterval() throws Exception {
+        store.record(REQUEST, headers("consulta"), new ResponseValidatesJointAccountsDto(true));
+        store.lookup(REQUEST, "consulta");
+
+        store.record(OTHER_REQUEST, headers("consulta"), new ResponseValidatesJointAccountsDto(true));
+        verify(backend, times(1)).validateAccounts(any(), any());
+
+        store.lookup(REQUEST, "consulta");
+        store.record(OTHER_REQUEST, headers("consulta"), new ResponseValidatesJointAccountsDto(true));
+        verify(backend, times(1)).validateAccounts(any(), any());
+
+        advance(Duration.ofSeconds(5));
+        store.record(OTHER_REQUEST, headers("consulta"), new ResponseValidatesJointAccountsDto(true));
+        verify(backend, times(2)).validateAccounts(any(), any());
+    }
+
+    @Test
+    void liveResponse_WithoutPendingPairs_DoesNotCallBackend() throws Exception {
+        store.record(REQUEST, headers("consulta"), new ResponseValidatesJointAccountsDto(true));
+        store.record(OTHER_REQUEST, headers("consulta"), new ResponseValidatesJointAccountsDto(true));
+
+        verify(backend, never()).validateAccounts(any(), any());
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static MultivaluedMap<String, String> headers(String operation) {
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle("id_consumidor", "testChannel");
+        headers.putSingle("fecha_hora", ORIGINAL_DATE_TIME);
+        headers.putSingle("operacion", operation);
+        headers.putSingle("terminal", "testTerminal");
+        headers.putSingle("usuario", "testUser");
+        return headers;
+    }
+}
@@ -0,0 +1,124 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.brrd.service.services.IValidarRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import jakarta.inject.Inject;
+
+/**
+ * Calentamiento de arranque con el cliente CXF real y el precalentamiento de
+ * conexiones simulado.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class StartupWarmupTest {
+
+    @Inject
+    @CXFClient("validaCuentasMancomunadas")
+    IValidarRequest validarRequest;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private final AtomicReference<UniEmitter<? super Void>> connections = new AtomicReference<>();
+
+    private SimpleMeterRegistry registry;
+
+    private BackendConnectionWarmer connectionWarmer;
+
+    private StartupWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        connectionWarmer = mock(BackendConnectionWarmer.class);
+        // Las conexiones quedan abriéndose hasta que la prueba las completa
+        when(connectionWarmer.warm()).thenReturn(Uni.createFrom().emitter(connections::set));
+
+        warmup = new StartupWarmup();
+        warmup.enabled = true;
+        warmup.iterations = 2;
+        warmup.timeout = Duration.ofSeconds(30);
+        warmup.validarRequest = validarRequest;
+        warmup.objectMapper = objectMapper;
+        warmup.connectionWarmer = connectionWarmer;
+        warmup.registry = registry;
+    }
+
+    @Test
+    void onStart_StaysIncompleteUntilConnectionsAreOpen() {
+        warmup.onStart(null);
+
+        // Llegar al precalentamiento de conexiones implica que la serialización con el cliente CXF no falló
+        await(() -> connections.get() != null);
+        assertFalse(warmup.isComplete());
+        assertEquals(-1, warmup.getDurationMillis());
+
+        connections.get().complete(null);
+
+        await(warmup::isComplete);
+        assertTrue(warmup.getDurationMillis() >= 0);
+        assertEquals(1, registry.get("validaciones.arranque.calentamiento").timer().count());
+    }
+
+    @Test
+    void onStart_ConnectionFailure_StillCompletes() {
+        when(connectionWarmer.warm()).thenReturn(Uni.createFrom().failure(new IllegalStateException("sin backend")));
+
+        warmup.onStart(null);
+
+        await(warmup::isComplete);
+    }
+
+    @Test
+    void onStart_Timeout_StillCompletes() {
+        warmup.timeout = Duration.ofMillis(200);
+
+        warmup.onStart(null);
+
+        // Las conexiones nunca terminan de abrirse; el tiempo máximo libera la disponibilidad
+        await(warmup::isComplete);
+    }
+
+    @Test
+    void onStart_Disabled_CompletesImmediately() {
+        warmup.enabled = false;
+
+        warmup.onStart(null);
+
+        assertTrue(warmup.isComplete());
+        verifyNoInteractions(connectionWarmer);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
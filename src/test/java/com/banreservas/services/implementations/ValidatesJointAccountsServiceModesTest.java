@@ -0,0 +1,132 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.exceptions.BackendBusinessException;
+import com.banreservas.stubs.SoapBackendStub;
+import com.banreservas.utils.defaults.BackendInvocationMode;
+import com.brrd.service.services.IValidarRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Ejecuta el servicio completo contra el backend SOAP local con el cliente
+ * CXF real en cada modo de invocación.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class ValidatesJointAccountsServiceModesTest {
+
+    private static SoapBackendStub stub;
+
+    private static ExecutorService virtualThreadExecutor;
+
+    @Inject
+    @CXFClient("validaCuentasMancomunadas")
+    IValidarRequest validarRequest;
+
+    @BeforeAll
+    static void startStub() throws Exception {
+        stub = SoapBackendStub.start(SoapBackendStub.DEFAULT_PORT);
+        virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop();
+        virtualThreadExecutor.shutdown();
+    }
+
+    @Test
+    void blockingMode_ValidProduct_Return_True() throws Exception {
+        stub.withErrorCode("000", "Exitoso").withValidProduct(true).withLatencyMillis(0);
+
+        assertTrue(validate(BackendInvocationMode.BLOCKING));
+    }
+
+    @Test
+    void blockingMode_InvalidProduct_Return_False() throws Exception {
+        stub.withErrorCode("000", "Exitoso").withValidProduct(false).withLatencyMillis(0);
+
+        assertFalse(validate(BackendInvocationMode.BLOCKING));
+    }
+
+    @Test
+    void virtualThreadMode_ValidProduct_Return_True() throws Exception {
+        stub.withErrorCode("000", "Exitoso").withValidProduct(true).withLatencyMillis(0);
+
+        assertTrue(validate(BackendInvocationMode.VIRTUAL_THREAD));
+    }
+
+    @Test
+    void virtualThreadMode_BackendError_IsBusinessRejection() {
+        stub.withErrorCode("999", "Error interno en el backend").withLatencyMillis(0);
+
+        assertThrows(BackendBusinessException.class, () -> validate(BackendInvocationMode.VIRTUAL_THREAD));
+    }
+
+    @Test
+    void asyncMode_ValidProduct_Return_True() throws Exception {
+        stub.withErrorCode("000", "Exitoso").withValidProduct(true).withLatencyMillis(0);
+
+        assertTrue(validate(BackendInvocationMode.ASYNC));
+    }
+
+    @Test
+    void asyncMode_BackendError_IsBusinessRejection() {
+        stub.withErrorCode("999", "Error interno en el backend").withLatencyMillis(0);
+
+        BackendBusinessException exception = assertThrows(BackendBusinessException.class,
+                () -> validate(BackendInvocationMode.ASYNC));
+        assertEquals("999", exception.getErrorCode());
+    }
+
+    private boolean validate(BackendInvocationMode mode) throws Exception {
+        return newService(mode).validateAccounts(new RequestDto("0987654321", "1234567890"), headers())
+                .await().atMost(Duration.ofSeconds(10))
+                .isValidProduct();
+    }
+
+    private ValidatesJointAccountsService newService(BackendInvocationMode mode) {
+        ValidatesJointAccountsService service = new ValidatesJointAccountsService();
+        service._validarRequest = validarRequest;
+        service._concurrencyLimiter = new AdaptiveConcurrencyLimiter();
+        service._metrics = new ValidationMetrics(new SimpleMeterRegistry(), 50);
+        service._hedgingPolicy = new BackendHedgingPolicy();
+        service._endpointBalancer = new BackendEndpointBalancer();
+        service._retryBudget = new BackendRetryBudget();
+        service._staleValidationStore = new StaleValidationStore();
+        service._virtualThreadExecutor = virtualThreadExecutor;
+        service.invocationMode = mode;
+        return service;
+    }
+
+    private static MultivaluedMap<String, String> headers() {
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle("id_consumidor", "test-consumer");
+        headers.putSingle("fecha_hora", "2025-01-28T12:00:00");
+        headers.putSingle("operacion", "test-operation");
+        headers.putSingle("terminal", "test-terminal");
+        headers.putSingle("usuario", "test-user");
+        headers.putSingle("sessionId", "test-session");
+        return headers;
+    }
+}
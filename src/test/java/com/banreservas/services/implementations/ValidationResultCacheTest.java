@@ -0,0 +1,148 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.inbound.RequestDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.exceptions.BackendBusinessException;
+import com.banreservas.exceptions.BackendTransientException;
+import com.banreservas.services.contracts.IValidatesJointAccountsService;
+import com.banreservas.utils.AccountPairKey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class ValidationResultCacheTest {
+
+    private static final RequestDto REQUEST = new RequestDto("0987654321", "1234567890");
+
+    private static final AccountPairKey KEY = AccountPairKey.of(REQUEST);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private ValidationResultCache cache;
+
+    private IValidatesJointAccountsService delegate;
+
+    private CachingValidatesJointAccountsService decorator;
+
+    private final MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        cache = new ValidationResultCache();
+        cache.enabled = true;
+        cache.maxSize = 100;
+        cache.positiveTtl = Duration.ofMinutes(5);
+        cache.negativeTtl = Duration.ofMinutes(1);
+        cache.registry = new SimpleMeterRegistry();
+        cache.ticker = nanos::get;
+        cache.init();
+
+        delegate = mock(IValidatesJointAccountsService.class);
+        decorator = new CachingValidatesJointAccountsService();
+        decorator.delegate = delegate;
+        decorator.cache = cache;
+    }
+
+    @Test
+    void positiveResult_ExpiresAfterPositiveTtl() {
+        cache.put(KEY, new ResponseValidatesJointAccountsDto(true));
+
+        advance(Duration.ofMinutes(4));
+        assertNotNull(cache.get(KEY));
+
+        advance(Duration.ofMinutes(2));
+        assertNull(cache.get(KEY));
+    }
+
+    @Test
+    void negativeResult_ExpiresAfterNegativeTtl() {
+        cache.put(KEY, new ResponseValidatesJointAccountsDto(false));
+
+        advance(Duration.ofSeconds(50));
+        assertNotNull(cache.get(KEY));
+
+        advance(Duration.ofSeconds(20));
+        assertNull(cache.get(KEY));
+    }
+
+    @Test
+    void cachedResult_ShortCircuitsBackend() throws Exception {
+        when(delegate.validateAccounts(any(), any()))
+                .thenReturn(Uni.createFrom().item(new ResponseValidatesJointAccountsDto(true)));
+
+        assertTrue(decorator.validateAccounts(REQUEST, headers).await().indefinitely().isValidProduct());
+        assertTrue(decorator.validateAccounts(REQUEST, headers).await().indefinitely().isValidProduct());
+
+        verify(delegate, times(1)).validateAccounts(any(), any());
+    }
+
+    @Test
+    void negativeResult_IsCached() throws Exception {
+        when(delegate.validateAccounts(any(), any()))
+                .thenReturn(Uni.createFrom().item(new ResponseValidatesJointAccountsDto(false)));
+
+        decorator.validateAccounts(REQUEST, headers).await().indefinitely();
+
+        assertFalse(cache.get(KEY).isValidProduct());
+    }
+
+    @Test
+    void businessRejection_IsNotCached() throws Exception {
+        when(delegate.validateAccounts(any(), any()))
+                .thenReturn(Uni.createFrom().failure(new BackendBusinessException("999", "Error en el backend")));
+
+        assertThrows(BackendBusinessException.class,
+                () -> decorator.validateAccounts(REQUEST, headers).await().indefinitely());
+        assertThrows(BackendBusinessException.class,
+                () -> decorator.validateAccounts(REQUEST, headers).await().indefinitely());
+
+        assertNull(cache.get(KEY));
+        verify(delegate, times(2)).validateAccounts(any(), any());
+    }
+
+    @Test
+    void transportFailure_IsNotCached() throws Exception {
+        when(delegate.validateAccounts(any(), any()))
+                .thenReturn(Uni.createFrom().failure(new BackendTransientException("Connection refused", null)));
+
+        assertThrows(BackendTransientException.class,
+                () -> decorator.validateAccounts(REQUEST, headers).await().indefinitely());
+
+        assertNull(cache.get(KEY));
+    }
+
+    @Test
+    void disabledCache_AlwaysCallsBackend() throws Exception {
+        cache.enabled = false;
+        when(delegate.validateAccounts(any(), any()))
+                .thenReturn(Uni.createFrom().item(new ResponseValidatesJointAccountsDto(true)));
+
+        decorator.validateAccounts(REQUEST, headers).await().indefinitely();
+        decorator.validateAccounts(REQUEST, headers).await().indefinitely();
+
+        verify(delegate, times(2)).validateAccounts(any(), any());
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,84 @@
+package com.banreservas.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.utils.defaults.BackendInvocationMode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    private SimpleMeterRegistry registry;
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor();
+        monitor.invocationMode = BackendInvocationMode.VIRTUAL_THREAD;
+        monitor.pinnedThreshold = Duration.ofMillis(10);
+        monitor.registry = registry;
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.onStop(null);
+    }
+
+    @Test
+    void pinnedVirtualThread_IsCounted() throws Exception {
+        monitor.onStart(null);
+
+        // Dormir dentro de synchronized ancla el hilo virtual a su portador
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(100);
+            }
+        }).join();
+
+        // JFR entrega los eventos en bloques; se espera a que llegue el del ancla
+        Counter pinned = registry.get(VirtualThreadPinningMonitor.PINNED_METRIC).counter();
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (pinned.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertTrue(pinned.count() >= 1);
+    }
+
+    @Test
+    void otherInvocationMode_DoesNotRegisterCounter() {
+        monitor.invocationMode = BackendInvocationMode.BLOCKING;
+
+        monitor.onStart(null);
+
+        assertNull(registry.find(VirtualThreadPinningMonitor.PINNED_METRIC).counter());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
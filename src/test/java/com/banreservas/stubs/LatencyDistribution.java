@@ -0,0 +1,50 @@
+package com.banreservas.stubs;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Distribución de la latencia simulada por {@link SoapBackendStub}.
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * @return La próxima latencia simulada en milisegundos.
+     */
+    long nextMillis();
+
+    static LatencyDistribution fixed(long millis) {
+        return () -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+    }
+
+    /**
+     * Distribución log-normal: la mayoría de las llamadas cerca de la mediana y
+     * una cola larga, como se observa en el backend real.
+     */
+    static LatencyDistribution logNormal(long medianMillis, double sigma) {
+        double mu = Math.log(medianMillis);
+        return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    /**
+     * Interpreta la distribución desde texto: {@code fixed:50},
+     * {@code uniform:20:200} o {@code lognormal:50:0.6}.
+     */
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split(":");
+        return switch (parts[0]) {
+            case "fixed" -> fixed(Long.parseLong(parts[1]));
+            case "uniform" -> uniform(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            case "lognormal" -> logNormal(Long.parseLong(parts[1]), Double.parseDouble(parts[2]));
+            default -> throw new IllegalArgumentException("Distribución de latencia desconocida: " + spec);
+        };
+    }
+}
@@ -0,0 +1,193 @@
+package com.banreservas.stubs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Servidor SOAP local que implementa el puerto {@code IValidarRequest} del
+ * WSDL {@code ValidaCuentaMancomunadas_WS.wsdl} (binding rpc/literal). Sustituye
+ * al backend real en las pruebas y en las pruebas de carga.
+ *
+ * Permite configurar la distribución de latencia, la proporción de respuestas
+ * con código de error distinto de "000", la proporción de llamadas que no
+ * responden a tiempo y el tamaño de {@code XMLReresponse}.
+ *
+ * Para ejecutarlo de forma independiente:
+ * {@code java -Dstub.port=18089 -Dstub.latency=lognormal:50:0.6 -Dstub.error-rate=0.01 com.banreservas.stubs.SoapBackendStub}
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+public class SoapBackendStub {
+
+    public static final int DEFAULT_PORT = 18089;
+
+    public static final String PATH = "/validar";
+
+    private final HttpServer server;
+
+    private volatile String errorCode = "000";
+
+    private volatile String errorMessage = "Exitoso";
+
+    private volatile boolean validProduct = true;
+
+    private volatile LatencyDistribution latency = LatencyDistribution.fixed(0);
+
+    private volatile double errorRate;
+
+    private volatile double timeoutRate;
+
+    private volatile long timeoutMillis = 30_000;
+
+    private volatile int products = 1;
+
+    private SoapBackendStub(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Inicia el servidor en el puerto indicado.
+     *
+     * @param port El puerto local.
+     * @return El servidor iniciado.
+     * @throws IOException Si el puerto no está disponible.
+     */
+    public static SoapBackendStub start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        SoapBackendStub stub = new SoapBackendStub(server);
+        server.createContext(PATH, stub::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return stub;
+    }
+
+    public static void main(String[] args) throws Exception {
+        SoapBackendStub stub = start(Integer.getInteger("stub.port", DEFAULT_PORT))
+                .withLatency(LatencyDistribution.parse(System.getProperty("stub.latency", "fixed:50")))
+                .withErrorRate(Double.parseDouble(System.getProperty("stub.error-rate", "0")))
+                .withTimeoutRate(Double.parseDouble(System.getProperty("stub.timeout-rate", "0")),
+                        Long.getLong("stub.timeout-millis", 30_000))
+                .withProducts(Integer.getInteger("stub.products", 1));
+
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::stop));
+        System.out.println("Backend SOAP simulado en http://localhost:" + stub.server.getAddress().getPort() + PATH);
+        new CountDownLatch(1).await();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public SoapBackendStub withErrorCode(String errorCode, String errorMessage) {
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        return this;
+    }
+
+    public SoapBackendStub withValidProduct(boolean validProduct) {
+        this.validProduct = validProduct;
+        return this;
+    }
+
+    public SoapBackendStub withLatencyMillis(long latencyMillis) {
+        return withLatency(LatencyDistribution.fixed(latencyMillis));
+    }
+
+    public SoapBackendStub withLatency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Proporción (0 a 1) de respuestas con código "999".
+     */
+    public SoapBackendStub withErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    /**
+     * Proporción (0 a 1) de llamadas que tardan {@code timeoutMillis} en
+     * responder, para provocar el tiempo de espera del cliente.
+     */
+    public SoapBackendStub withTimeoutRate(double timeoutRate, long timeoutMillis) {
+        this.timeoutRate = timeoutRate;
+        this.timeoutMillis = timeoutMillis;
+        return this;
+    }
+
+    /**
+     * Cantidad de nodos {@code ProductoValido} en {@code XMLReresponse}.
+     */
+    public SoapBackendStub withProducts(int products) {
+        this.products = products;
+        return this;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        sleep(random.nextDouble() < timeoutRate ? timeoutMillis : latency.nextMillis());
+
+        String response = random.nextDouble() < errorRate
+                ? envelope("999", "Error simulado en el backend", false, 0)
+                : envelope(errorCode, errorMessage, validProduct, products);
+
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/xml; charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Construye el sobre SOAP de {@code ValidarResponse}.
+     */
+    static String envelope(String errorCode, String errorMessage, boolean validProduct, int products) {
+        StringBuilder xmlResponse = new StringBuilder("&lt;ProductoValidos&gt;");
+        for (int i = 0; i < products; i++) {
+            xmlResponse.append("&lt;ProductoValido&gt;&lt;Resultado&gt;")
+                    .append(validProduct ? "TRUE" : "FALSE")
+                    .append("&lt;/Resultado&gt;&lt;/ProductoValido&gt;");
+        }
+        xmlResponse.append("&lt;/ProductoValidos&gt;");
+
+        return "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+                + "<soap:Body>"
+                + "<ns2:ValidarResponse xmlns:ns2=\"http://services.service.brrd.com/\">"
+                + "<Response>"
+                + "<errorCode>" + errorCode + "</errorCode>"
+                + "<errorMessage>" + errorMessage + "</errorMessage>"
+                + "<XMLReresponse>" + xmlResponse + "</XMLReresponse>"
+                + "</Response>"
+                + "</ns2:ValidarResponse>"
+                + "</soap:Body>"
+                + "</soap:Envelope>";
+    }
+}
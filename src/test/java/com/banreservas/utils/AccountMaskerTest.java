@@ -0,0 +1,31 @@
+package com.banreservas.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class AccountMaskerTest {
+
+    @Test
+    void mask_KeepsLastFourCharacters() {
+        assertEquals("******7890", AccountMasker.mask("1234567890"));
+    }
+
+    @Test
+    void mask_ShortAccount_MasksEverything() {
+        assertEquals("****", AccountMasker.mask("1234"));
+        assertEquals("", AccountMasker.mask(""));
+    }
+
+    @Test
+    void mask_Null_Return_Null() {
+        assertNull(AccountMasker.mask(null));
+    }
+}
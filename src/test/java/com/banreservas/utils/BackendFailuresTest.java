@@ -0,0 +1,51 @@
+package com.banreservas.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.channel.ConnectTimeoutException;
+import io.vertx.core.impl.NoStackTraceTimeoutException;
+import jakarta.xml.ws.WebServiceException;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class BackendFailuresTest {
+
+    @Test
+    void isTimeout_TimeoutTypesInCauseChain_Return_True() {
+        assertTrue(BackendFailures.isTimeout(new SocketTimeoutException("Read timed out")));
+        assertTrue(BackendFailures.isTimeout(new TimeoutException("timeout")));
+        assertTrue(BackendFailures.isTimeout(new WebServiceException("Could not send Message.",
+                new ConnectTimeoutException("connection timed out: backend/10.0.0.1:9082"))));
+        assertTrue(BackendFailures.isTimeout(new WebServiceException("Could not send Message.",
+                new NoStackTraceTimeoutException("The timeout period of 30000ms has been exceeded"))));
+    }
+
+    @Test
+    void isTimeout_VertxTimeoutClassName_MatchesVertxType() {
+        // Si Vert.x mueve o renombra la clase interna, esta prueba lo detecta
+        assertEquals(NoStackTraceTimeoutException.class.getName(), BackendFailures.VERTX_TIMEOUT_CLASS);
+    }
+
+    @Test
+    void isTimeout_OtherFailures_Return_False() {
+        assertFalse(BackendFailures.isTimeout(new WebServiceException("Could not send Message.",
+                new ConnectException("Connection refused"))));
+        // El nombre de la clase ya no basta para considerarla tiempo agotado
+        assertFalse(BackendFailures.isTimeout(new TimeoutConfigurationException()));
+        assertFalse(BackendFailures.isTimeout(null));
+    }
+
+    private static class TimeoutConfigurationException extends RuntimeException {
+    }
+}
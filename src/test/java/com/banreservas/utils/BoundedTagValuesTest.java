@@ -0,0 +1,40 @@
+package com.banreservas.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class BoundedTagValuesTest {
+
+    @Test
+    void bound_KeepsValuesUpToMaximum() {
+        BoundedTagValues tagValues = new BoundedTagValues(2);
+
+        assertEquals("A", tagValues.bound("A"));
+        assertEquals("B", tagValues.bound("B"));
+        assertEquals(BoundedTagValues.OTHER, tagValues.bound("C"));
+        assertEquals("A", tagValues.bound("A"));
+    }
+
+    @Test
+    void bound_NullOrBlank_Return_None() {
+        BoundedTagValues tagValues = new BoundedTagValues(2);
+
+        assertEquals(BoundedTagValues.NONE, tagValues.bound(null));
+        assertEquals(BoundedTagValues.NONE, tagValues.bound(" "));
+    }
+
+    @Test
+    void bound_TooLong_Return_Other() {
+        BoundedTagValues tagValues = new BoundedTagValues(2);
+
+        assertEquals(BoundedTagValues.OTHER, tagValues.bound("X".repeat(65)));
+    }
+}
@@ -0,0 +1,58 @@
+package com.banreservas.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class JsonLogEncoderTest {
+
+    @Test
+    void end_WritesFieldsAndMasksAccounts() {
+        String json = JsonLogEncoder.begin("Soap Request")
+                .field("sessionId", "abc")
+                .maskedField("cuentaOrigen", "9600000012")
+                .field("responseCode", 200)
+                .field("isValidProduct", Boolean.TRUE)
+                .field("usuario", (String) null)
+                .end();
+
+        assertEquals("{\"mensaje\":\"Soap Request\",\"sessionId\":\"abc\",\"cuentaOrigen\":\"******0012\","
+                + "\"responseCode\":200,\"isValidProduct\":true,\"usuario\":null}", json);
+    }
+
+    @Test
+    void end_EscapesSpecialCharacters() {
+        String json = JsonLogEncoder.begin("a\"b\\c\nd\u0001").end();
+
+        assertEquals("{\"mensaje\":\"a\\\"b\\\\c\\nd\\u0001\"}", json);
+    }
+
+    @Test
+    void maskedField_EscapesVisibleCharacters() {
+        String json = JsonLogEncoder.begin("Soap Request").maskedField("cuentaOrigen", "96000\"}\n\\").end();
+
+        assertEquals("{\"mensaje\":\"Soap Request\",\"cuentaOrigen\":\"*****\\\"}\\n\\\\\"}", json);
+    }
+
+    @Test
+    void begin_OnVirtualThread_EncodesEvent() throws Exception {
+        String[] json = new String[1];
+        Thread.ofVirtual().start(() -> json[0] = JsonLogEncoder.begin("virtual").field("x", "1").end()).join();
+
+        assertEquals("{\"mensaje\":\"virtual\",\"x\":\"1\"}", json[0]);
+    }
+
+    @Test
+    void begin_ReusesBufferBetweenEvents() {
+        JsonLogEncoder.begin("primero").field("x", "1").end();
+
+        assertEquals("{\"mensaje\":\"segundo\"}", JsonLogEncoder.begin("segundo").end());
+    }
+}
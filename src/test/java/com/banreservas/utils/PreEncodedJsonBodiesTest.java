@@ -0,0 +1,64 @@
+package com.banreservas.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.dtos.inbound.ResponseDto;
+import com.banreservas.dtos.inbound.ResponseHeaderDto;
+import com.banreservas.dtos.inbound.ResponseValidatesJointAccountsDto;
+import com.banreservas.utils.defaults.CodeMessages;
+import com.banreservas.utils.defaults.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class PreEncodedJsonBodiesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void lookup_Success_IsIdenticalToJackson() throws Exception {
+        PreEncodedJsonBodies bodies = new PreEncodedJsonBodies(objectMapper);
+
+        for (boolean isValidProduct : new boolean[] { true, false }) {
+            ResponseDto response = new ResponseDto(new ResponseHeaderDto(200, CodeMessages.MESSAGE_SUCCESS),
+                    new ResponseValidatesJointAccountsDto(isValidProduct));
+
+            assertArrayEquals(objectMapper.writeValueAsBytes(response), bodies.lookup(response));
+        }
+    }
+
+    @Test
+    void lookup_CodeMessagesErrors_AreIdenticalToJackson() throws Exception {
+        PreEncodedJsonBodies bodies = new PreEncodedJsonBodies(objectMapper);
+
+        for (Field field : CodeMessages.class.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getName().equals("MESSAGE_SUCCESS")) {
+                continue;
+            }
+            ErrorResponse error = new ErrorResponse((String) field.get(null));
+
+            assertArrayEquals(objectMapper.writeValueAsBytes(error), bodies.lookup(error), field.getName());
+        }
+    }
+
+    @Test
+    void lookup_OtherShapes_Return_Null() throws Exception {
+        PreEncodedJsonBodies bodies = new PreEncodedJsonBodies(objectMapper);
+
+        assertNull(bodies.lookup(new ErrorResponse("Header sessionId es obligatorio")));
+        assertNull(bodies.lookup(new ResponseDto(new ResponseHeaderDto(400, "Solicitud incorrecta"), null)));
+        assertNull(bodies.lookup(new ResponseDto(new ResponseHeaderDto(200, "Otro"),
+                new ResponseValidatesJointAccountsDto(true))));
+        assertNull(bodies.lookup("texto"));
+    }
+}
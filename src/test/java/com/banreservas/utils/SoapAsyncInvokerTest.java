@@ -0,0 +1,96 @@
+package com.banreservas.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.banreservas.stubs.SoapBackendStub;
+import com.brrd.service.services.IValidarRequest;
+import com.brrd.service.services.ServiceResponse;
+import com.brrd.service.services.ValidarRequest;
+
+import io.quarkiverse.cxf.annotation.CXFClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
+import jakarta.inject.Inject;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+@QuarkusTest
+public class SoapAsyncInvokerTest {
+
+    private static SoapBackendStub stub;
+
+    @Inject
+    @CXFClient("validaCuentasMancomunadas")
+    IValidarRequest validarRequest;
+
+    @BeforeAll
+    static void startStub() throws Exception {
+        stub = SoapBackendStub.start(SoapBackendStub.DEFAULT_PORT);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop();
+    }
+
+    @Test
+    void validarAsync_ReturnsBackendResponse() throws Exception {
+        stub.withErrorCode("000", "Exitoso").withValidProduct(true).withLatencyMillis(0);
+
+        ServiceResponse response = SoapAsyncInvoker.validar(validarRequest, buildRequest())
+                .await().atMost(Duration.ofSeconds(10));
+
+        assertEquals("000", response.getErrorCode());
+        assertTrue(ValidProductXmlDecoder.isValidProduct(response.getXMLReresponse()));
+    }
+
+    @Test
+    void validarAsync_ReturnsBackendError() {
+        stub.withErrorCode("999", "Error interno en el backend").withLatencyMillis(0);
+
+        ServiceResponse response = SoapAsyncInvoker.validar(validarRequest, buildRequest())
+                .await().atMost(Duration.ofSeconds(10));
+
+        assertEquals("999", response.getErrorCode());
+        assertEquals("Error interno en el backend", response.getErrorMessage());
+    }
+
+    @Test
+    void validarAsync_ConcurrentSlowCalls_DoNotHoldThreads() {
+        stub.withErrorCode("000", "Exitoso").withValidProduct(false).withLatencyMillis(500);
+
+        // 50 llamadas lentas concurrentes terminan en el tiempo de una sola llamada
+        long start = System.nanoTime();
+        List<ServiceResponse> responses = Multi.createFrom().range(0, 50)
+                .onItem().transformToUni(i -> SoapAsyncInvoker.validar(validarRequest, buildRequest())).merge(50)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(10));
+
+        assertEquals(50, responses.size());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5000);
+    }
+
+    private static ValidarRequest buildRequest() {
+        ValidarRequest request = new ValidarRequest();
+        request.setChannel("test-consumer");
+        request.setDate("2025-01-28T12:00:00");
+        request.setOperationName("test-operation");
+        request.setTerminal("test-terminal");
+        request.setUser("test-user");
+        request.setCuentaOrigen("1234567890");
+        request.setCuentaDestino("0987654321");
+        return request;
+    }
+}
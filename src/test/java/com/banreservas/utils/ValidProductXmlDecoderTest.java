@@ -0,0 +1,79 @@
+package com.banreservas.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ *
+ * @author Ing. Victor Diaz - vjdiaz@banreservas.com
+ * @since 18-10-2026
+ * @version 1.0
+ */
+
+public class ValidProductXmlDecoderTest {
+
+    @Test
+    void isValidProduct_Resultado_True() throws Exception {
+        String xml = "<ProductoValidos><ProductoValido><Resultado>TRUE</Resultado></ProductoValido></ProductoValidos>";
+
+        assertTrue(ValidProductXmlDecoder.isValidProduct(xml));
+        assertEquals(ValidProductXmlDecoder.isValidProductByBinding(xml), ValidProductXmlDecoder.isValidProduct(xml));
+    }
+
+    @Test
+    void isValidProduct_Resultado_False() throws Exception {
+        String xml = "<ProductoValidos><ProductoValido><Resultado>FALSE</Resultado></ProductoValido></ProductoValidos>";
+
+        assertFalse(ValidProductXmlDecoder.isValidProduct(xml));
+        assertEquals(ValidProductXmlDecoder.isValidProductByBinding(xml), ValidProductXmlDecoder.isValidProduct(xml));
+    }
+
+    @Test
+    void isValidProduct_UsesFirstProductOnly() throws Exception {
+        String xml = "<ProductoValidos>"
+                + "<ProductoValido><Resultado>FALSE</Resultado></ProductoValido>"
+                + "<ProductoValido><Resultado>TRUE</Resultado></ProductoValido>"
+                + "</ProductoValidos>";
+
+        assertFalse(ValidProductXmlDecoder.isValidProduct(xml));
+        assertEquals(ValidProductXmlDecoder.isValidProductByBinding(xml), ValidProductXmlDecoder.isValidProduct(xml));
+    }
+
+    @Test
+    void isValidProduct_ProductWithoutResultado_Return_False() throws Exception {
+        String xml = "<ProductoValidos><ProductoValido></ProductoValido></ProductoValidos>";
+
+        assertFalse(ValidProductXmlDecoder.isValidProduct(xml));
+        assertEquals(ValidProductXmlDecoder.isValidProductByBinding(xml), ValidProductXmlDecoder.isValidProduct(xml));
+    }
+
+    @Test
+    void isValidProduct_UnknownElements_AreIgnored() throws Exception {
+        String xml = "<ProductoValidos>"
+                + "<Cabecera><Codigo>000</Codigo></Cabecera>"
+                + "<ProductoValido><Tipo>AHORRO</Tipo><Resultado>TRUE</Resultado></ProductoValido>"
+                + "</ProductoValidos>";
+
+        // Cambio intencional respecto a la implementación original, que fallaba con elementos desconocidos
+        assertTrue(ValidProductXmlDecoder.isValidProduct(xml));
+        assertTrue(ValidProductXmlDecoder.isValidProductByBinding(xml));
+    }
+
+    @Test
+    void isValidProduct_MalformedXml_FallsBackToBinding() {
+        String xml = "<ProductoValidos><ProductoValido><Resul";
+
+        assertThrows(JsonProcessingException.class, () -> ValidProductXmlDecoder.isValidProduct(xml));
+    }
+
+    @Test
+    void isValidProduct_WithoutProducts_FallsBackToBinding() {
+        String xml = "<ProductoValidos></ProductoValidos>";
+
+        // El enlace completo deja la lista en null, igual que la implementación original
+        assertThrows(NullPointerException.class, () -> ValidProductXmlDecoder.isValidProduct(xml));
+    }
+}
@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+#
+# Prueba de carga de extremo a extremo con el backend SOAP simulado.
+#
+# Para cada modo de ejecución levanta la aplicación empaquetada apuntando al
+# backend simulado, ejecuta LoadDriver y agrega los resultados (p50/p99/p999 y
+# throughput) a target/load-results.json.
+#
+# Uso:
+#   ./mvnw package -DskipTests
+#   TOKEN=<token bearer> src/test/load/run-load-test.sh [modo...]
+#
+# Variables:
+#   STUB_LATENCY (lognormal:50:0.6), STUB_ERROR_RATE (0.01), STUB_TIMEOUT_RATE (0.001),
+#   STUB_PRODUCTS (1), CONCURRENCY (200), WARMUP (PT20S), DURATION (PT60S), TIMEOUT (15000)
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/../../.."
+
+MODES=("$@")
+if [ ${#MODES[@]} -eq 0 ]; then
+    MODES=(blocking async virtual-thread)
+fi
+
+STUB_PORT=18089
+APP_PORT=8080
+
+./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test-classpath.txt -Dmdep.includeScope=test
+CLASSPATH="target/test-classes:target/classes:$(cat target/test-classpath.txt)"
+
+java -cp "$CLASSPATH" \
+    -Dstub.port=${STUB_PORT} \
+    -Dstub.latency="${STUB_LATENCY:-lognormal:50:0.6}" \
+    -Dstub.error-rate="${STUB_ERROR_RATE:-0.01}" \
+    -Dstub.timeout-rate="${STUB_TIMEOUT_RATE:-0.001}" \
+    -Dstub.timeout-millis=30000 \
+    -Dstub.products="${STUB_PRODUCTS:-1}" \
+    com.banreservas.stubs.SoapBackendStub &
+STUB_PID=$!
+trap 'kill ${STUB_PID} 2>/dev/null || true' EXIT
+
+for MODE in "${MODES[@]}"; do
+    echo "=== Modo ${MODE} ==="
+    java -DWebServiceURL=http://localhost:${STUB_PORT}/validar \
+        -DTimeOut="${TIMEOUT:-15000}" \
+        -Dvalidation.backend.invocation-mode="${MODE}" \
+        -Dquarkus.http.port=${APP_PORT} \
+        -jar target/quarkus-app/quarkus-run.jar > "target/load-app-${MODE}.log" 2>&1 &
+    APP_PID=$!
+
+    until curl -sf "http://localhost:${APP_PORT}/api/v1/health/ready" > /dev/null; do
+        sleep 1
+    done
+
+    java -cp "$CLASSPATH" \
+        -Dload.url=http://localhost:${APP_PORT}/api/v1/valida-cuentas-mancomunadas \
+        -Dload.mode="${MODE}" \
+        -Dload.concurrency="${CONCURRENCY:-200}" \
+        -Dload.warmup="${WARMUP:-PT20S}" \
+        -Dload.duration="${DURATION:-PT60S}" \
+        -Dload.token="${TOKEN:-}" \
+        com.banreservas.load.LoadDriver
+
+    kill ${APP_PID}
+    wait ${APP_PID} || true
+done
+
+echo "Resultados en target/load-results.json"
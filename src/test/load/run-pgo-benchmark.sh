@@ -0,0 +1,130 @@
+#!/usr/bin/env bash
+#
+# Construye la imagen nativa optimizada con PGO y la compara con el modo JVM y
+# la imagen nativa sin optimizar.
+#
+# 1. Empaqueta el modo JVM, la imagen nativa y la imagen instrumentada
+#    (perfil native-pgo-instrument).
+# 2. Ejecuta la imagen instrumentada con la carga de entrenamiento (LoadDriver
+#    contra el backend SOAP simulado) y la detiene para que escriba
+#    target/pgo/default.iprof.
+# 3. Reconstruye con el perfil recolectado (perfil native-pgo).
+# 4. Para cada variante mide el tiempo hasta estar lista, el RSS y el
+#    throughput, y escribe el informe en target/pgo/report.md.
+#
+# Requiere Oracle GraalVM 21+ (native-image con soporte de PGO) en el PATH;
+# la construcción en contenedor no tiene acceso al perfil recolectado.
+#
+# Uso:
+#   TOKEN=<token bearer> src/test/load/run-pgo-benchmark.sh
+#
+# Variables:
+#   STUB_LATENCY (lognormal:5:0.3), STUB_PRODUCTS (1), CONCURRENCY (200),
+#   TRAINING (PT60S), WARMUP (PT20S), DURATION (PT60S), TIMEOUT (15000)
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/../../.."
+
+if ! native-image --version 2>/dev/null | grep -q "Oracle GraalVM"; then
+    echo "Se requiere Oracle GraalVM (native-image con --pgo) en el PATH" >&2
+    exit 1
+fi
+
+STUB_PORT=18089
+APP_PORT=8080
+PGO_DIR=target/pgo
+RESULTS="${PGO_DIR}/load-results.json"
+APP_ARGS=(-DWebServiceURL=http://localhost:${STUB_PORT}/validar -DTimeOut="${TIMEOUT:-15000}"
+    -Dquarkus.http.port=${APP_PORT})
+
+mkdir -p "${PGO_DIR}"
+rm -f "${RESULTS}" "${PGO_DIR}/default.iprof" "${PGO_DIR}/variants.json"
+
+# Las variantes se copian porque cada construcción reemplaza target/*-runner
+./mvnw -q package -DskipTests
+./mvnw -q package -DskipTests -Dnative
+cp target/*-runner "${PGO_DIR}/app-native"
+./mvnw -q package -DskipTests -Pnative-pgo-instrument
+cp target/*-runner "${PGO_DIR}/app-instrumented"
+
+./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test-classpath.txt -Dmdep.includeScope=test
+CLASSPATH="target/test-classes:target/classes:$(cat target/test-classpath.txt)"
+
+java -cp "$CLASSPATH" \
+    -Dstub.port=${STUB_PORT} \
+    -Dstub.latency="${STUB_LATENCY:-lognormal:5:0.3}" \
+    -Dstub.products="${STUB_PRODUCTS:-1}" \
+    com.banreservas.stubs.SoapBackendStub &
+STUB_PID=$!
+trap 'kill ${STUB_PID} 2>/dev/null || true' EXIT
+
+now_ms() {
+    date +%s%3N
+}
+
+wait_ready() {
+    until curl -sf "http://localhost:${APP_PORT}/api/v1/health/ready" > /dev/null; do
+        sleep 0.05
+    done
+}
+
+run_load() {
+    java -cp "$CLASSPATH" \
+        -Dload.url=http://localhost:${APP_PORT}/api/v1/valida-cuentas-mancomunadas \
+        -Dload.mode="$1" \
+        -Dload.concurrency="${CONCURRENCY:-200}" \
+        -Dload.warmup="$2" \
+        -Dload.duration="$3" \
+        -Dload.token="${TOKEN:-}" \
+        -Dload.results="$4" \
+        com.banreservas.load.LoadDriver
+}
+
+# Entrenamiento: la imagen instrumentada escribe default.iprof en su directorio al terminar
+echo "=== Entrenamiento PGO ==="
+(cd "${PGO_DIR}" && exec ./app-instrumented "${APP_ARGS[@]}" > app-instrumented.log 2>&1) &
+APP_PID=$!
+wait_ready
+run_load training PT0S "${TRAINING:-PT60S}" "${PGO_DIR}/training-results.json"
+kill -TERM ${APP_PID}
+wait ${APP_PID} || true
+test -s "${PGO_DIR}/default.iprof"
+
+./mvnw -q package -DskipTests -Pnative-pgo -Dpgo.profile="$(pwd)/${PGO_DIR}/default.iprof"
+cp target/*-runner "${PGO_DIR}/app-native-pgo"
+
+for VARIANT in jvm native native-pgo; do
+    echo "=== Variante ${VARIANT} ==="
+    START=$(now_ms)
+    if [ "${VARIANT}" = "jvm" ]; then
+        java "${APP_ARGS[@]}" -jar target/quarkus-app/quarkus-run.jar > "${PGO_DIR}/app-${VARIANT}.log" 2>&1 &
+    else
+        "${PGO_DIR}/app-${VARIANT}" "${APP_ARGS[@]}" > "${PGO_DIR}/app-${VARIANT}.log" 2>&1 &
+    fi
+    APP_PID=$!
+    wait_ready
+    STARTUP_MS=$(( $(now_ms) - START ))
+    IDLE_RSS_KB=$(awk '/VmRSS/ {print $2}' /proc/${APP_PID}/status)
+
+    run_load "${VARIANT}" "${WARMUP:-PT20S}" "${DURATION:-PT60S}" "${RESULTS}"
+
+    PEAK_RSS_KB=$(awk '/VmHWM/ {print $2}' /proc/${APP_PID}/status)
+    echo "{\"mode\":\"${VARIANT}\",\"startupMs\":${STARTUP_MS},\"idleRssKb\":${IDLE_RSS_KB},\"peakRssKb\":${PEAK_RSS_KB}}" \
+        >> "${PGO_DIR}/variants.json"
+
+    kill ${APP_PID}
+    wait ${APP_PID} || true
+done
+
+{
+    echo "| Variante | Inicio (ms) | RSS en reposo (MB) | RSS pico (MB) | Throughput (req/s) | p50 (ms) | p99 (ms) |"
+    echo "|---|---|---|---|---|---|---|"
+    jq -rs '(.[0] | map({(.mode): .}) | add) as $load
+        | .[1][] | [.mode, .startupMs, (.idleRssKb / 1024 | floor), (.peakRssKb / 1024 | floor),
+            $load[.mode].throughput, $load[.mode].p50Ms, $load[.mode].p99Ms]
+        | "| " + (map(tostring) | join(" | ")) + " |"' \
+        <(jq -s . "${RESULTS}") <(jq -s . "${PGO_DIR}/variants.json")
+} > "${PGO_DIR}/report.md"
+
+cat "${PGO_DIR}/report.md"
@@ -0,0 +1,107 @@
+#!/usr/bin/env bash
+#
+# Compara el arranque de las imágenes JVM: la actual (Dockerfile.jvm), con
+# AppCDS (Dockerfile.jvm-appcds) y restaurada desde un checkpoint CRaC
+# (Dockerfile.jvm-crac, etiqueta :checkpoint).
+#
+# Para cada imagen mide el tiempo desde docker run hasta la primera respuesta
+# 200 del endpoint y luego ejecuta LoadDriver en WINDOWS ventanas
+# consecutivas de WINDOW. El tiempo hasta el throughput pico es el fin de la
+# primera ventana que alcanza el 90% del máximo de la imagen. El informe
+# queda en target/startup/report.md.
+#
+# Uso (las imágenes ya construidas según las instrucciones de cada Dockerfile):
+#   TOKEN=<token bearer> src/test/load/run-startup-benchmark.sh [imagen...]
+#
+# Variables:
+#   STUB_LATENCY (lognormal:5:0.3), CONCURRENCY (200), WINDOWS (30), WINDOW (PT2S)
+#
+set -euo pipefail
+
+cd "$(dirname "$0")/../../.."
+
+IMAGE_PREFIX=quarkus/vjdiaz-valida-cuentas-mancomunadas-soapwsdl-ws
+IMAGES=("$@")
+if [ ${#IMAGES[@]} -eq 0 ]; then
+    IMAGES=("${IMAGE_PREFIX}-jvm" "${IMAGE_PREFIX}-jvm-appcds" "${IMAGE_PREFIX}-jvm-crac:checkpoint")
+fi
+
+STUB_PORT=18089
+APP_PORT=8080
+OUT_DIR=target/startup
+RESULTS="${OUT_DIR}/load-results.json"
+
+mkdir -p "${OUT_DIR}"
+rm -f "${RESULTS}" "${OUT_DIR}/first-request.json"
+
+./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test-classpath.txt -Dmdep.includeScope=test
+CLASSPATH="target/test-classes:target/classes:$(cat target/test-classpath.txt)"
+
+java -cp "$CLASSPATH" \
+    -Dstub.port=${STUB_PORT} \
+    -Dstub.latency="${STUB_LATENCY:-lognormal:5:0.3}" \
+    com.banreservas.stubs.SoapBackendStub &
+STUB_PID=$!
+trap 'kill ${STUB_PID} 2>/dev/null || true; docker rm -f startup-benchmark > /dev/null 2>&1 || true' EXIT
+
+first_request() {
+    curl -s -o /dev/null -w "%{http_code}" -X POST "http://localhost:${APP_PORT}/api/v1/valida-cuentas-mancomunadas" \
+        -H "Content-Type: application/json" \
+        -H "Authorization: Bearer ${TOKEN:-}" \
+        -H "sessionId: startup" \
+        -H "id_consumidor: startup" \
+        -H "usuario: startup" \
+        -H "fecha_hora: 2025-01-28T12:00:00" \
+        -H "terminal: startup" \
+        -H "operacion: startup" \
+        -d '{"cuentaOrigen":"0000000001","cuentaDestino":"0000000002"}' || true
+}
+
+for IMAGE in "${IMAGES[@]}"; do
+    NAME=$(basename "${IMAGE}")
+    echo "=== ${NAME} ==="
+    START=$(date +%s%3N)
+    # La restauración CRaC ignora JAVA_OPTS_APPEND; la URL del stub llega también por variable de entorno
+    docker run -d --rm --name startup-benchmark --network host \
+        --cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE \
+        -e JAVA_OPTS_APPEND="-Dquarkus.http.host=0.0.0.0" \
+        -e WebServiceURL="http://localhost:${STUB_PORT}/validar" \
+        "${IMAGE}" > /dev/null
+
+    until [ "$(first_request)" = "200" ]; do
+        sleep 0.02
+    done
+    FIRST_MS=$(( $(date +%s%3N) - START ))
+    echo "{\"image\":\"${NAME}\",\"firstRequestMs\":${FIRST_MS}}" >> "${OUT_DIR}/first-request.json"
+
+    java -cp "$CLASSPATH" \
+        -Dload.url=http://localhost:${APP_PORT}/api/v1/valida-cuentas-mancomunadas \
+        -Dload.mode="${NAME}" \
+        -Dload.concurrency="${CONCURRENCY:-200}" \
+        -Dload.warmup=PT0S \
+        -Dload.duration="${WINDOW:-PT2S}" \
+        -Dload.windows="${WINDOWS:-30}" \
+        -Dload.token="${TOKEN:-}" \
+        -Dload.results="${RESULTS}" \
+        com.banreservas.load.LoadDriver
+
+    docker stop startup-benchmark > /dev/null
+done
+
+{
+    echo "| Imagen | Primera solicitud (ms) | Throughput pico (req/s) | Ventana al 90% del pico | Hasta el 90% del pico (ms) |"
+    echo "|---|---|---|---|---|"
+    jq -rs --arg window "${WINDOW:-PT2S}" '
+        ($window | capture("PT(?<s>[0-9.]+)S").s | tonumber * 1000) as $windowMs
+        | (.[1] | map({(.image): .firstRequestMs}) | add) as $first
+        | .[0] | map(. + {image: (.mode | split("/")[0]), window: (.mode | split("/")[1] | tonumber)})
+        | group_by(.image)[]
+        | (map(.throughput) | max) as $peak
+        | (map(select(.throughput >= 0.9 * $peak)) | min_by(.window)) as $reached
+        | [.[0].image, $first[.[0].image], ($peak | floor), $reached.window,
+            ($first[.[0].image] + $reached.window * $windowMs | floor)]
+        | "| " + (map(tostring) | join(" | ")) + " |"' \
+        <(jq -s . "${RESULTS}") <(jq -s . "${OUT_DIR}/first-request.json")
+} > "${OUT_DIR}/report.md"
+
+cat "${OUT_DIR}/report.md"